@@ -5,5 +5,40 @@ create table users (
     username VARCHAR(30) NOT NULL,
     phone VARCHAR(20),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
-)
\ No newline at end of file
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    deleted_at TIMESTAMP NULL,
+    -- 활성 사용자 조회(deleted_at IS NULL AND id > ? ORDER BY id)와 보관 대상 찾기(deleted_at < ?)를 같은 인덱스로
+    INDEX idx_users_deleted_at_id (deleted_at, id)
+);
+
+-- 기존 테이블이면
+-- ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
+-- ALTER TABLE users ADD COLUMN deleted_at TIMESTAMP NULL, ADD INDEX idx_users_deleted_at_id (deleted_at, id), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 삭제 표시 후 보관 기간이 지난 사용자 (UserArchiver 가 users 에서 옮김, 보관 기간이 더 지나면 삭제)
+create table users_archive (
+    id BIGINT PRIMARY KEY,
+    email VARCHAR(50) NOT NULL,
+    password VARCHAR(100) NOT NULL,
+    username VARCHAR(30) NOT NULL,
+    phone VARCHAR(20),
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    version BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    INDEX idx_users_archive_archived_at (archived_at)
+);
+
+-- 사용자 변경 outbox (users 변경과 같은 트랜잭션에서 기록, /api/users/changes 로 전달)
+create table user_outbox (
+    seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(10) NOT NULL,
+    user_id BIGINT NOT NULL,
+    email VARCHAR(50),
+    username VARCHAR(30),
+    phone VARCHAR(20),
+    created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_user_outbox_created_at (created_at)
+);
@@ -0,0 +1,70 @@
+package pratice.user_management.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import pratice.user_management.UserManagementApplication;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.repository.UserJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (embedded 프로필, 웹 서버 없이)
+ */
+public final class EmbeddedApp {
+
+    private EmbeddedApp() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        SpringApplication app = new SpringApplication(UserManagementApplication.class);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        app.setAdditionalProfiles("embedded");
+        return app.run(args);
+    }
+
+    /**
+     * 임의 포트로 웹 서버까지 띄운 컨텍스트 (reactive 면 WebFlux + R2DBC, 아니면 MVC + JPA)
+     * 두 스택이 같은 H2 인메모리 DB(users)를 본다.
+     */
+    public static ConfigurableApplicationContext startServer(boolean reactive, String... args) {
+        SpringApplication app = new SpringApplication(UserManagementApplication.class);
+        List<String> arguments = new ArrayList<>(List.of(args));
+        arguments.add("--server.port=0");
+        arguments.add("--user.rate-limit.enabled=false");
+        if (reactive) {
+            app.setAdditionalProfiles("embedded", "reactive");
+            arguments.add("--spring.r2dbc.url=r2dbc:h2:mem:///users?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            arguments.add("--spring.r2dbc.username=sa");
+            arguments.add("--spring.r2dbc.password=");
+        } else {
+            app.setAdditionalProfiles("embedded");
+        }
+        return app.run(arguments.toArray(String[]::new));
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /**
+     * userN@example.com 형태의 사용자를 count 명 저장
+     */
+    public static void seed(ConfigurableApplicationContext context, String prefix, int count) {
+        UserJdbcRepository jdbcRepository = context.getBean(UserJdbcRepository.class);
+        List<UserCreateDTO> chunk = new ArrayList<>(1000);
+        for (int i = 0; i < count; i++) {
+            chunk.add(newUser(prefix, i));
+            if (chunk.size() == 1000 || i == count - 1) {
+                jdbcRepository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+    }
+
+    public static UserCreateDTO newUser(String prefix, long n) {
+        return new UserCreateDTO(prefix + n + "@example.com", "password" + n, "User " + n, "010-0000-" + (n % 10000));
+    }
+}
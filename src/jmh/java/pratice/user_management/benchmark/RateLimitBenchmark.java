@@ -0,0 +1,54 @@
+package pratice.user_management.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import pratice.user_management.filter.RateLimitFilter;
+import pratice.user_management.filter.RateLimitRoute;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 허용되는 요청 하나에 요청 수 제한이 더하는 비용 (버킷 조회 + CAS, 목표: 수백 ns 이하)
+ * 제한을 아주 크게 잡아 항상 허용되는 경로만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitBenchmark {
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimitFilter filter;
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("user.rate-limit.get", "1000000000,1000000000")));
+        filter = new RateLimitFilter(environment, new SimpleMeterRegistry(), "X-Api-Key", 100_000, 600);
+
+        clientKeys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientKeys[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+            filter.acquire(RateLimitRoute.GET, clientKeys[i]);
+        }
+    }
+
+    @Benchmark
+    public long acquire() {
+        return filter.acquire(RateLimitRoute.GET, clientKeys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+
+    // 같은 버킷을 여러 스레드가 동시에 CAS (경합 비용)
+    @Benchmark
+    @Threads(4)
+    public long acquireContended() {
+        return filter.acquire(RateLimitRoute.GET, clientKeys[0]);
+    }
+}
@@ -0,0 +1,57 @@
+package pratice.user_management.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 1명당 등록 비용: POST /users 경로(createUser 반복) vs POST /users/bulk 경로(createUsers)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(UserBulkInsertBenchmark.BATCH)
+public class UserBulkInsertBenchmark {
+    static final int BATCH = 1000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedApp.start("--user.bulk.batch-size=" + BATCH);
+        service = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private List<UserCreateDTO> nextUsers() {
+        List<UserCreateDTO> users = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            users.add(EmbeddedApp.newUser("insert", sequence.incrementAndGet()));
+        }
+        return users;
+    }
+
+    @Benchmark
+    public void createOneByOne() {
+        for (UserCreateDTO user : nextUsers()) {
+            service.createUser(user);
+        }
+    }
+
+    @Benchmark
+    public Object createBulk() {
+        return service.createUsers(nextUsers().iterator());
+    }
+}
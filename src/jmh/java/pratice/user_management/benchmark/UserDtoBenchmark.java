@@ -0,0 +1,103 @@
+package pratice.user_management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pratice.user_management.domain.dto.ErrorResponseDTO;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.domain.dto.UserRowDTO;
+import pratice.user_management.domain.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * DB 없이 DTO 변환 / JSON 직렬화 / 에러 응답 생성 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserDtoBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<User> entities;
+    private List<UserRowDTO> rows;
+    private UserDTO user;
+    private UserPageDTO page;
+    private ErrorResponseDTO error;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같게 (LocalDateTime -> ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        entities = new ArrayList<>(size);
+        rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(User.builder()
+                    .id(i + 1)
+                    .email("user" + i + "@example.com")
+                    .password("password" + i)
+                    .username("User " + i)
+                    .phone("010-0000-" + i)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            rows.add(new UserRowDTO(i + 1, "user" + i + "@example.com", "User " + i, "010-0000-" + i, now, 0, now));
+        }
+        user = rows.get(0).toUserDTO();
+        page = new UserPageDTO(rows.stream().map(UserRowDTO::toUserDTO).collect(Collectors.toList()), "MTAw",
+                new ResourceTagDTO("\"p\"", -1));
+        error = new ErrorResponseDTO(HttpStatus.NOT_FOUND.value(), "Not exist user", "/api/users/1");
+    }
+
+    // 예전 getAllUsers: 엔티티 목록 -> DTO 목록
+    @Benchmark
+    public List<UserDTO> mapEntitiesToDto() {
+        return entities.stream()
+                .map(u -> new UserDTO(u.getEmail(), u.getUsername(), u.getPhone(), u.getCreatedAt(), u.getVersion(), u.getUpdatedAt()))
+                .collect(Collectors.toList());
+    }
+
+    // 현재 getAllUsers: 프로젝션 행 -> DTO 목록
+    @Benchmark
+    public List<UserDTO> mapRowsToDto() {
+        return rows.stream()
+                .map(UserRowDTO::toUserDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    // GlobalExceptionHandler 가 만드는 에러 응답
+    @Benchmark
+    public ErrorResponseDTO createErrorResponse() {
+        return new ErrorResponseDTO(HttpStatus.NOT_FOUND.value(), "Not exist user", "/api/users/1");
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,97 @@
+package pratice.user_management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pratice.user_management.config.UserProtobufCodec;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지(100명)를 형식별로 인코딩/디코딩하는 비용
+ * 본문 크기는 결과 JSON 의 보조 지표 payloadBytes 로 함께 기록된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserEncodingBenchmark {
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    private ObjectMapper mapper;   // protobuf 면 null
+    private UserPageDTO page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "smile" -> binaryMapper(new SmileFactory());
+            case "cbor" -> binaryMapper(new CBORFactory());
+            default -> null;
+        };
+
+        List<UserDTO> users = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < 100; i++) {
+            users.add(new UserDTO("user" + i + "@example.com", "user" + i, "010-1234-" + String.format("%04d", i),
+                    createdAt.plusMinutes(i), 0, null));
+        }
+        page = new UserPageDTO(users, "MTAw", null);
+        encoded = write();
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        byte[] bytes = write();
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public UserPageDTO decode(PayloadSize size) throws IOException {
+        size.payloadBytes = encoded.length;
+        if (mapper != null) {
+            return mapper.readValue(encoded, UserPageDTO.class);
+        }
+        return UserProtobufCodec.read(UserPageDTO.class, new ByteArrayInputStream(encoded));
+    }
+
+    private byte[] write() throws IOException {
+        if (mapper != null) {
+            return mapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        UserProtobufCodec.write(page, out);
+        return out.toByteArray();
+    }
+
+    // WebConfig 의 Smile / CBOR 컨버터와 같은 설정
+    private static ObjectMapper binaryMapper(com.fasterxml.jackson.core.JsonFactory factory) {
+        return new Jackson2ObjectMapperBuilder()
+                .factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * 형식별 본문 크기 (바이트) - 시간 결과와 함께 JSON 에 기록된다
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+}
@@ -0,0 +1,76 @@
+package pratice.user_management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import pratice.user_management.controller.UserNdjsonExport;
+import pratice.user_management.service.UserService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내보내기(GET /users/export)의 힙 사용량이 행 수와 상관없이 일정한지 확인
+ * 응답과 같은 NDJSON writer 로 직렬화해서 버리는 스트림에 쓴다 (직렬화 버퍼까지 포함해서 잰다).
+ * 힙을 작게(-Xmx256m) 잡고 파일 기반 H2 를 써서, 전체를 메모리에 올리면 OOM 이 나는 크기까지 돌린다.
+ * 결과 JSON 의 보조 지표 peakHeapMiB 가 rows 값과 상관없이 비슷하면 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserExportBenchmark {
+
+    @Param({"10000", "2000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserService service;
+    private ObjectWriter ndjson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedApp.start(
+                "--spring.datasource.url=jdbc:h2:file:./build/jmh-export-" + rows + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        service = context.getBean(UserService.class);
+        ndjson = UserNdjsonExport.writer(context.getBean(ObjectMapper.class));
+        EmbeddedApp.seed(context, "export", rows);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeak() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export(PeakHeap heap) throws IOException {
+        long written = UserNdjsonExport.write(ndjson, service, OutputStream.nullOutputStream());
+        heap.peakHeapMiB = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum() / (1024 * 1024);
+        return written;
+    }
+
+    /**
+     * 반복마다 잰 힙 최고 사용량 (MiB, 반복 시작 때 초기화) - 시간 결과와 함께 JSON 에 기록된다
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+        public long peakHeapMiB;
+    }
+}
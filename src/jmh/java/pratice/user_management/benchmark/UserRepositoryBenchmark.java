@@ -0,0 +1,72 @@
+package pratice.user_management.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserRowDTO;
+import pratice.user_management.domain.entity.User;
+import pratice.user_management.repository.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 인메모리 DB 에서 리포지토리 조회 비용 측정 (엔티티 로딩 vs DTO 프로젝션 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRepositoryBenchmark {
+    private static final int USERS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedApp.start();
+        repository = context.getBean(UserRepository.class);
+        EmbeddedApp.seed(context, "bench", USERS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, USERS + 1);
+    }
+
+    // 예전 getUser: 엔티티 로딩 후 DTO 변환
+    @Benchmark
+    public UserDTO findEntityById() {
+        User u = repository.findById(randomId()).orElseThrow();
+        return new UserDTO(u.getEmail(), u.getUsername(), u.getPhone(), u.getCreatedAt(), u.getVersion(), u.getUpdatedAt());
+    }
+
+    // 현재 getUser: DTO 프로젝션
+    @Benchmark
+    public UserDTO findDtoById() {
+        return repository.findDtoById(randomId()).orElseThrow();
+    }
+
+    // 키셋 페이지 100건 (깊이와 상관없이 같은 비용이어야 함)
+    @Benchmark
+    public List<UserRowDTO> findPage() {
+        return repository.findRowsAfter(randomId() - 1, Limit.of(101));
+    }
+
+    // 조건부 GET 의 버전 확인
+    @Benchmark
+    public Object findVersionById() {
+        return repository.findVersionById(randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return repository.existsByEmail("bench" + randomId() + "@example.com");
+    }
+}
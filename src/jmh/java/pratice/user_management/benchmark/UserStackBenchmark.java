@@ -0,0 +1,74 @@
+package pratice.user_management.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 H2 DB 위에서 MVC(JPA, 요청당 스레드) vs WebFlux(R2DBC, 이벤트 루프) 스택의 HTTP 처리량 비교
+ * 동시 클라이언트 32개가 각자 응답을 받자마자 다음 요청을 보낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class UserStackBenchmark {
+    private static final int USERS = 10_000;
+
+    @Param({"mvc", "reactive"})
+    private String stack;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedApp.startServer("reactive".equals(stack));
+        EmbeddedApp.seed(context, "bench", USERS);
+        baseUrl = "http://localhost:" + EmbeddedApp.port(context) + "/api/users";
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getUser() throws Exception {
+        long id = ThreadLocalRandom.current().nextLong(1, USERS + 1);
+        return send(URI.create(baseUrl + "/" + id), "application/json");
+    }
+
+    @Benchmark
+    public int listPage() throws Exception {
+        return send(URI.create(baseUrl + "?limit=20"), "application/json");
+    }
+
+    // 큰 목록: MVC 는 /export(NDJSON), WebFlux 는 같은 /export 를 backpressure 스트림으로
+    @Benchmark
+    @Threads(4)
+    public int export() throws Exception {
+        return send(URI.create(baseUrl + "/export"), "application/x-ndjson");
+    }
+
+    private int send(URI uri, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", accept).GET().build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " -> " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
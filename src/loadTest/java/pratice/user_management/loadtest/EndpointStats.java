@@ -0,0 +1,53 @@
+package pratice.user_management.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 분포 (HdrHistogram, 나노초 단위, 유효숫자 3자리)
+ */
+class EndpointStats {
+    private final String name;
+    private final int weight;
+    private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name, int weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
+    void record(long latencyNanos, boolean ok) {
+        histogram.recordValue(Math.min(latencyNanos, histogram.getHighestTrackableValue()));
+        if (!ok) {
+            errors.increment();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        return histogram.getMaxValue() / 1_000_000.0;
+    }
+}
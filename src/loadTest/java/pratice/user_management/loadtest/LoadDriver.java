@@ -0,0 +1,167 @@
+package pratice.user_management.loadtest;
+
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.repository.UserJdbcRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /api/users 에 고정 도착률(open model)로 요청을 보내는 부하 발생기 (UserApiLoadTest, ThreadModelLoadTest 에서 사용)
+ * 요청은 응답을 기다리지 않고 정해진 시각에 보내고, 지연 시간은 "보냈어야 할 시각"부터 재므로
+ * 서버가 밀려도 측정이 낙관적으로 왜곡되지 않는다 (coordinated omission 방지).
+ */
+class LoadDriver {
+    private final String base;
+    private final int users;
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final AtomicLong deleteSequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    /**
+     * @param users 조회/수정 대상 1..users, 삭제 대상 users+1..2*users (seed 로 넣음)
+     */
+    LoadDriver(int port, int users) {
+        this.base = "http://localhost:" + port + "/api/users";
+        this.users = users;
+    }
+
+    /**
+     * 조회/수정 대상과 삭제 대상 사용자를 미리 넣는다
+     */
+    void seed(UserJdbcRepository jdbcRepository) {
+        List<UserCreateDTO> chunk = new ArrayList<>(1000);
+        for (int i = 1; i <= 2 * users; i++) {
+            chunk.add(new UserCreateDTO("seed" + i + "@example.com", "password", "User " + i, "010-0000-" + (i % 10000)));
+            if (chunk.size() == 1000 || i == 2 * users) {
+                jdbcRepository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * 초당 rate 개씩 warmupSeconds + durationSeconds 동안 보내고, warmup 이후에 보낸 요청만 endpoints 에 기록한다.
+     *
+     * @return 보낸 요청이 모두 drainSeconds 안에 끝났는지
+     */
+    boolean run(List<EndpointStats> endpoints, int rate, int warmupSeconds, int durationSeconds, int drainSeconds)
+            throws InterruptedException {
+        int totalWeight = endpoints.stream().mapToInt(EndpointStats::getWeight).sum();
+        ExecutorService callbacks = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(callbacks)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * (warmupSeconds + durationSeconds);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        CountDownLatch pending = new CountDownLatch((int) total);
+        peakInFlight.set(0);
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            EndpointStats endpoint = pick(endpoints, totalWeight);
+            boolean record = intended >= recordFrom;
+            int now = inFlight.incrementAndGet();
+            if (record) {
+                peakInFlight.accumulateAndGet(now, Math::max);
+            }
+            client.sendAsync(request(endpoint.getName()), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        if (record) {
+                            boolean ok = error == null && response.statusCode() < 400;
+                            endpoint.record(System.nanoTime() - intended, ok);
+                        }
+                        pending.countDown();
+                    });
+        }
+        boolean drained = pending.await(drainSeconds, TimeUnit.SECONDS);
+        callbacks.shutdownNow();
+        return drained;
+    }
+
+    /**
+     * 마지막 run 의 기록 구간에서 동시에 처리 중이던 요청 수의 최댓값
+     */
+    int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    /**
+     * "list:30,get:40" -> 엔드포인트별 가중치
+     */
+    static List<EndpointStats> parseMix(String mix) {
+        List<EndpointStats> endpoints = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            endpoints.add(new EndpointStats(pair[0], Integer.parseInt(pair[1])));
+        }
+        return endpoints;
+    }
+
+    private HttpRequest request(String endpoint) {
+        long id = ThreadLocalRandom.current().nextLong(1, users + 1);
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        switch (endpoint) {
+            case "list" -> builder.uri(URI.create(base + "?limit=20")).GET();
+            case "get" -> builder.uri(URI.create(base + "/" + id)).GET();
+            case "post" -> {
+                long n = emailSequence.incrementAndGet();
+                builder.uri(URI.create(base))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"load" + n + "@example.com\",\"password\":\"password\",\"username\":\"Load " + n + "\"}"));
+            }
+            case "put" -> builder.uri(URI.create(base + "/" + id))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"username\":\"Renamed " + id + "\"}"));
+            case "delete" -> {
+                // 삭제 대상 구간을 다 쓰면 조회로 대신한다
+                long target = users + deleteSequence.incrementAndGet();
+                builder.uri(URI.create(base + "/" + (target <= 2L * users ? target : id)));
+                if (target <= 2L * users) {
+                    builder.DELETE();
+                } else {
+                    builder.GET();
+                }
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 엔드포인트: " + endpoint);
+        }
+        return builder.build();
+    }
+
+    private static EndpointStats pick(List<EndpointStats> endpoints, int totalWeight) {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (EndpointStats endpoint : endpoints) {
+            r -= endpoint.getWeight();
+            if (r < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+}
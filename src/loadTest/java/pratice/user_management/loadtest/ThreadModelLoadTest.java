@@ -0,0 +1,163 @@
+package pratice.user_management.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import pratice.user_management.UserManagementApplication;
+import pratice.user_management.repository.UserJdbcRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드(virtual 프로필) 비교
+ * ./gradlew loadTest --tests '*ThreadModelLoadTest' -Dloadtest.compare=true
+ * 모드마다 애플리케이션을 따로 띄우고 도착률을 start-rate 부터 step 배씩 올리면서 단계마다 p99 와 최대 동시 요청 수를 잰다.
+ * 오류 없이 다 끝났고 모든 엔드포인트의 p99 가 예산 안인 마지막 단계가 그 모드가 버티는 최대 도착률이고,
+ * 그 단계에서 동시에 처리 중이던 요청 수가 최대 동시성이다. 리포트는 build/reports/loadtest/thread-model.txt
+ */
+@EnabledIfSystemProperty(named = "loadtest.compare", matches = "true")
+class ThreadModelLoadTest {
+
+    private static final int START_RATE = Integer.getInteger("loadtest.compare.start-rate", 200);
+    private static final int MAX_RATE = Integer.getInteger("loadtest.compare.max-rate", 20_000);
+    private static final double STEP = Double.parseDouble(System.getProperty("loadtest.compare.step", "1.5"));
+    private static final int STEP_WARMUP_SECONDS = Integer.getInteger("loadtest.compare.step-warmup-seconds", 2);
+    private static final int STEP_SECONDS = Integer.getInteger("loadtest.compare.step-seconds", 10);
+    private static final int DRAIN_SECONDS = 30;
+    private static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    private static final String MIX = System.getProperty("loadtest.mix", "list:30,get:40,post:10,put:15,delete:5");
+    private static final double BUDGET_P99_MS = Double.parseDouble(System.getProperty("loadtest.budget.p99-ms", "50"));
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드 모드에서 도착률을 올려 가며 p99 와 최대 동시성을 비교한다.")
+    void compare_PlatformAndVirtualThreads() throws Exception {
+        // ✅ Given & When (모드마다 새 애플리케이션, 같은 단계)
+        List<ModeResult> results = List.of(measure("platform", false), measure("virtual", true));
+
+        // ✅ Then (리포트 작성, 두 모드 모두 시작 도착률은 버텨야 함)
+        String report = report(results);
+        System.out.println(report);
+        Path dir = Path.of("build", "reports", "loadtest");
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("thread-model.txt"), report);
+
+        for (ModeResult result : results) {
+            assertTrue(result.lastSustained() != null, result.mode + " 모드가 시작 도착률 " + START_RATE + "/s 를 버티지 못했습니다.");
+        }
+    }
+
+    private ModeResult measure(String mode, boolean virtual) throws InterruptedException {
+        SpringApplication app = new SpringApplication(UserManagementApplication.class);
+        if (virtual) {
+            app.setAdditionalProfiles("embedded", "virtual");
+        } else {
+            app.setAdditionalProfiles("embedded");
+        }
+        try (ConfigurableApplicationContext context = app.run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--user.rate-limit.enabled=false",
+                "--user.fulltext.index-path=./build/loadtest-index/" + mode)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadDriver driver = new LoadDriver(port, USERS);
+            driver.seed(context.getBean(UserJdbcRepository.class));
+
+            // 버티지 못한 단계가 나오면 거기서 멈춘다 (더 올리면 대기열만 길어짐)
+            List<StepResult> steps = new ArrayList<>();
+            for (double rate = START_RATE; rate <= MAX_RATE; rate *= STEP) {
+                List<EndpointStats> endpoints = LoadDriver.parseMix(MIX);
+                boolean drained = driver.run(endpoints, (int) rate, STEP_WARMUP_SECONDS, STEP_SECONDS, DRAIN_SECONDS);
+                StepResult step = new StepResult((int) rate, endpoints, driver.peakInFlight(), drained);
+                steps.add(step);
+                if (!step.sustained()) {
+                    break;
+                }
+            }
+            return new ModeResult(mode, steps);
+        }
+    }
+
+    private static String report(List<ModeResult> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("mix=%s users=%d step=%ds x%.1f budget p99=%.1fms%n", MIX, USERS, STEP_SECONDS, STEP, BUDGET_P99_MS));
+        sb.append(String.format("%-8s %8s %9s %9s %8s %7s %9s%n", "mode", "rate(/s)", "p99(ms)", "p999(ms)", "peak", "errors", "sustained"));
+        for (ModeResult result : results) {
+            for (StepResult step : result.steps) {
+                sb.append(String.format("%-8s %8d %9.2f %9.2f %8d %7d %9s%n", result.mode, step.rate, step.p99Millis(),
+                        step.p999Millis(), step.peakInFlight, step.errors(), step.sustained() ? "yes" : "no"));
+            }
+        }
+        sb.append(String.format("%n%-8s %14s %16s %9s%n", "mode", "max rate(/s)", "max concurrency", "p99(ms)"));
+        for (ModeResult result : results) {
+            StepResult best = result.lastSustained();
+            sb.append(best == null
+                    ? String.format("%-8s %14s %16s %9s%n", result.mode, "-", "-", "-")
+                    : String.format("%-8s %14d %16d %9.2f%n", result.mode, best.rate, best.peakInFlight, best.p99Millis()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한 모드의 단계별 결과
+     */
+    private static class ModeResult {
+        private final String mode;
+        private final List<StepResult> steps;
+
+        ModeResult(String mode, List<StepResult> steps) {
+            this.mode = mode;
+            this.steps = steps;
+        }
+
+        // 버틴 마지막 단계 (첫 단계부터 못 버텼으면 null)
+        StepResult lastSustained() {
+            StepResult last = null;
+            for (StepResult step : steps) {
+                if (step.sustained()) {
+                    last = step;
+                }
+            }
+            return last;
+        }
+    }
+
+    /**
+     * 도착률 한 단계의 결과 (p99 / p999 는 엔드포인트 중 가장 나쁜 값)
+     */
+    private static class StepResult {
+        private final int rate;
+        private final List<EndpointStats> endpoints;
+        private final int peakInFlight;
+        private final boolean drained;
+
+        StepResult(int rate, List<EndpointStats> endpoints, int peakInFlight, boolean drained) {
+            this.rate = rate;
+            this.endpoints = endpoints;
+            this.peakInFlight = peakInFlight;
+            this.drained = drained;
+        }
+
+        double p99Millis() {
+            return endpoints.stream().mapToDouble(endpoint -> endpoint.percentileMillis(99.0)).max().orElse(0);
+        }
+
+        double p999Millis() {
+            return endpoints.stream().mapToDouble(endpoint -> endpoint.percentileMillis(99.9)).max().orElse(0);
+        }
+
+        long errors() {
+            return endpoints.stream().mapToLong(EndpointStats::getErrors).sum();
+        }
+
+        boolean sustained() {
+            return drained && errors() == 0 && p99Millis() <= BUDGET_P99_MS;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package pratice.user_management.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import pratice.user_management.repository.UserJdbcRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 고정 도착률(open model) 부하 테스트 (요청 발생은 LoadDriver)
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=${loadtest.virtual:false}",
+                // 모든 요청이 한 클라이언트에서 나가므로 요청 수 제한은 끈다 (필터 비용은 RateLimitBenchmark 로 측정)
+                "user.rate-limit.enabled=false"
+        }
+)
+@ActiveProfiles("embedded")
+class UserApiLoadTest {
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);                     // 초당 요청 수
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);   // 기록하지 않는 구간
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+    private static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    private static final String MIX = System.getProperty("loadtest.mix", "list:30,get:40,post:10,put:15,delete:5");
+    private static final double BUDGET_P99_MS = Double.parseDouble(System.getProperty("loadtest.budget.p99-ms", "50"));
+    private static final double BUDGET_P999_MS = Double.parseDouble(System.getProperty("loadtest.budget.p999-ms", "200"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserJdbcRepository jdbcRepository;
+
+    @Test
+    @DisplayName("고정 도착률에서 모든 엔드포인트의 p99 / p999 가 예산 안이어야 한다.")
+    void userApi_ShouldStayWithinLatencyBudget() throws Exception {
+        // ✅ Given (조회/수정 대상 1..USERS, 삭제 대상 USERS+1..2*USERS)
+        LoadDriver driver = new LoadDriver(port, USERS);
+        driver.seed(jdbcRepository);
+        List<EndpointStats> endpoints = LoadDriver.parseMix(MIX);
+
+        // ✅ When (정해진 시각마다 비동기로 요청)
+        boolean drained = driver.run(endpoints, RATE, WARMUP_SECONDS, DURATION_SECONDS, 60);
+
+        // ✅ Then (리포트 작성 후 예산 검증)
+        String report = report(endpoints);
+        System.out.println(report);
+        Path dir = Path.of("build", "reports", "loadtest");
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("report.txt"), report);
+
+        assertTrue(drained, "요청이 60초 안에 모두 끝나지 않았습니다.");
+        for (EndpointStats endpoint : endpoints) {
+            assertTrue(endpoint.getErrors() == 0, endpoint.getName() + " 오류 응답 " + endpoint.getErrors() + "건");
+            assertTrue(endpoint.percentileMillis(99.0) <= BUDGET_P99_MS,
+                    endpoint.getName() + " p99 " + endpoint.percentileMillis(99.0) + "ms > " + BUDGET_P99_MS + "ms");
+            assertTrue(endpoint.percentileMillis(99.9) <= BUDGET_P999_MS,
+                    endpoint.getName() + " p999 " + endpoint.percentileMillis(99.9) + "ms > " + BUDGET_P999_MS + "ms");
+        }
+    }
+
+    private static String report(List<EndpointStats> endpoints) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("rate=%d/s duration=%ds virtual=%s budget p99=%.1fms p999=%.1fms%n",
+                RATE, DURATION_SECONDS, System.getProperty("loadtest.virtual", "false"), BUDGET_P99_MS, BUDGET_P999_MS));
+        sb.append(String.format("%-8s %8s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        for (EndpointStats endpoint : endpoints) {
+            sb.append(String.format("%-8s %8d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getName(), endpoint.getCount(), endpoint.getErrors(),
+                    endpoint.percentileMillis(50.0), endpoint.percentileMillis(99.0),
+                    endpoint.percentileMillis(99.9), endpoint.maxMillis()));
+        }
+        return sb.toString();
+    }
+}
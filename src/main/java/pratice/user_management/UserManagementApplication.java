@@ -2,8 +2,13 @@ package pratice.user_management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)    // 캐시를 트랜잭션 바깥에서 확인 (적중하면 트랜잭션/커넥션 없이 반환)
+@EnableScheduling
 public class UserManagementApplication {
 
 	public static void main(String[] args) {
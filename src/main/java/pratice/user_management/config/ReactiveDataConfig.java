@@ -0,0 +1,24 @@
+package pratice.user_management.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * reactive 프로필에서는 JPA(인덱스 구성 등 백그라운드 작업)와 R2DBC(API)가 함께 뜬다.
+ * 트랜잭션 매니저가 둘이 되므로 @Transactional 기본값은 JPA 쪽으로 두고,
+ * R2DBC 쪽은 ReactiveUserService 가 TransactionalOperator 로 명시적으로 쓴다.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataConfig {
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,71 @@
+package pratice.user_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * replica 가 설정되어 있으면 (user.datasource.replica-urls) 읽기/쓰기 분리 DataSource 로 바꾼다.
+ * primary 는 spring.datasource.*, replica 는 같은 드라이버/계정(replica-username/password 로 바꿀 수 있음)에
+ * 풀 설정(spring.datasource.hikari.*)도 같게 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.datasource.replica-urls")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties properties,
+                                                        Environment environment,
+                                                        MeterRegistry meterRegistry,
+                                                        @Value("${user.datasource.replica-urls}") List<String> replicaUrls,
+                                                        @Value("${user.datasource.replica-username:}") String replicaUsername,
+                                                        @Value("${user.datasource.replica-password:}") String replicaPassword,
+                                                        @Value("${user.datasource.balance:round-robin}") String balance) {
+        HikariDataSource primary = pool(environment, properties, "primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword());
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            replicas.add(pool(environment, properties, "replica-" + replicas.size(), url.trim(),
+                    replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername,
+                    replicaUsername.isEmpty() ? properties.determinePassword() : replicaPassword));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, ReadWriteRoutingDataSource.Balance.of(balance), meterRegistry);
+    }
+
+    /**
+     * JPA / JdbcTemplate 이 쓰는 DataSource (커넥션은 첫 SQL 때 routingDataSource 에서 고름)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource pool(Environment environment, DataSourceProperties properties, String name,
+                                         String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        return pool;
+    }
+}
@@ -0,0 +1,114 @@
+package pratice.user_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * readOnly 트랜잭션은 replica 중 하나로 (round-robin 또는 사용 중인 커넥션이 가장 적은 곳), 나머지는 모두 primary 로 보낸다.
+ * 트랜잭션 시작이 아니라 첫 SQL 때 커넥션을 골라야 readOnly 표시가 보이므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * pinPrimary() 안에서는 readOnly 여도 primary (복제 지연을 허용할 수 없는 읽기, read-your-writes).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    public enum Balance {
+        ROUND_ROBIN, LEAST_CONNECTIONS;
+
+        public static Balance of(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * primary 고정 범위 (try-with-resources 로 닫으면 이전 상태로 돌아감)
+     */
+    public interface Pin extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final Balance balance;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Balance balance,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.balance = balance;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        this.primaryRoutes = meterRegistry.counter("user.datasource.routes", "target", "primary");
+        this.replicaRoutes = meterRegistry.counter("user.datasource.routes", "target", "replica");
+    }
+
+    /**
+     * 이 스레드의 readOnly 조회를 닫을 때까지 primary 로 보냄
+     */
+    public static Pin pinPrimary() {
+        boolean previous = PINNED.get();
+        PINNED.set(true);
+        return () -> {
+            if (!previous) {
+                PINNED.remove();
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || PINNED.get() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return balance == Balance.LEAST_CONNECTIONS ? leastConnections() : Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    // 사용 중 + 대기 중인 커넥션이 가장 적은 replica (같으면 round-robin 순서로 먼저인 쪽)
+    private int leastConnections() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        int best = start;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            HikariPoolMXBean pool = replicas.get(index).getHikariPoolMXBean();
+            int load = pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+            if (load < bestLoad) {
+                best = index;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+}
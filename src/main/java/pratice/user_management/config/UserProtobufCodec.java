@@ -0,0 +1,204 @@
+package pratice.user_management.config;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import pratice.user_management.domain.dto.ErrorResponseDTO;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO <-> protobuf 바이너리 (스키마: static/schema/user.proto)
+ * 생성 코드 없이 DTO 필드를 바로 wire format 으로 쓰고 읽으므로 중간 메시지 객체를 만들지 않는다.
+ * null 인 필드는 쓰지 않고, 읽을 때 없는 필드는 null 이다 (proto3 optional).
+ */
+public final class UserProtobufCodec {
+    static final Set<Class<?>> WRITABLE = Set.of(UserDTO.class, UserPageDTO.class, ErrorResponseDTO.class);
+    static final Set<Class<?>> READABLE = Set.of(UserCreateDTO.class, UserDTO.class, UserPageDTO.class);
+
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int VARINT = WireFormat.WIRETYPE_VARINT;
+
+    private UserProtobufCodec() {
+    }
+
+    /**
+     * UserDTO / UserPageDTO / ErrorResponseDTO / List&lt;UserSearchHitDTO&gt; 쓰기
+     */
+    public static void write(Object value, OutputStream out) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        switch (value) {
+            case UserDTO user -> writeUser(output, user);
+            case UserPageDTO page -> {
+                for (UserDTO user : page.getUsers()) {
+                    output.writeTag(1, LENGTH_DELIMITED);
+                    output.writeUInt32NoTag(userSize(user));
+                    writeUser(output, user);
+                }
+                writeString(output, 2, page.getNextCursor());
+            }
+            case ErrorResponseDTO error -> {
+                output.writeInt64(1, error.getTimestamp().toInstant().toEpochMilli());
+                output.writeInt32(2, error.getStatus());
+                writeString(output, 3, error.getError());
+                writeString(output, 4, error.getPath());
+            }
+            case List<?> hits -> {
+                for (Object hit : hits) {
+                    UserSearchHitDTO searchHit = (UserSearchHitDTO) hit;
+                    output.writeTag(1, LENGTH_DELIMITED);
+                    output.writeUInt32NoTag(searchHitSize(searchHit));
+                    writeSearchHit(output, searchHit);
+                }
+            }
+            default -> throw new IllegalArgumentException("protobuf 로 쓸 수 없는 타입입니다: " + value.getClass());
+        }
+        output.flush();
+    }
+
+    /**
+     * UserCreateDTO / UserDTO / UserPageDTO 읽기
+     * 알려진 필드의 wire type 이 스키마와 다르거나 본문이 깨져 있으면 IllegalArgumentException (400)
+     */
+    public static <T> T read(Class<T> type, InputStream in) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(in);
+        try {
+            if (type == UserCreateDTO.class) {
+                return type.cast(readUserCreate(input));
+            }
+            if (type == UserDTO.class) {
+                return type.cast(readUser(input));
+            }
+            if (type == UserPageDTO.class) {
+                return type.cast(readPage(input));
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("잘못된 protobuf 본문입니다.", e);
+        }
+        throw new IllegalArgumentException("protobuf 로 읽을 수 없는 타입입니다: " + type);
+    }
+
+    private static void writeUser(CodedOutputStream output, UserDTO user) throws IOException {
+        writeString(output, 1, user.getEmail());
+        writeString(output, 2, user.getUsername());
+        writeString(output, 3, user.getPhone());
+        if (user.getCreatedAt() != null) {
+            output.writeInt64(4, toEpochMillis(user.getCreatedAt()));
+        }
+    }
+
+    private static int userSize(UserDTO user) {
+        int size = stringSize(1, user.getEmail()) + stringSize(2, user.getUsername()) + stringSize(3, user.getPhone());
+        if (user.getCreatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(4, toEpochMillis(user.getCreatedAt()));
+        }
+        return size;
+    }
+
+    private static void writeSearchHit(CodedOutputStream output, UserSearchHitDTO hit) throws IOException {
+        output.writeInt64(1, hit.getId());
+        writeString(output, 2, hit.getEmail());
+        writeString(output, 3, hit.getUsername());
+        writeString(output, 4, hit.getPhone());
+    }
+
+    private static int searchHitSize(UserSearchHitDTO hit) {
+        return CodedOutputStream.computeInt64Size(1, hit.getId())
+                + stringSize(2, hit.getEmail()) + stringSize(3, hit.getUsername()) + stringSize(4, hit.getPhone());
+    }
+
+    private static UserDTO readUser(CodedInputStream input) throws IOException {
+        String email = null;
+        String username = null;
+        String phone = null;
+        LocalDateTime createdAt = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> email = readString(input, tag);
+                case 2 -> username = readString(input, tag);
+                case 3 -> phone = readString(input, tag);
+                case 4 -> {
+                    checkWireType(tag, VARINT);
+                    createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(input.readInt64()), ZoneId.systemDefault());
+                }
+                default -> input.skipField(tag);
+            }
+        }
+        return new UserDTO(email, username, phone, createdAt, 0, null);
+    }
+
+    private static UserPageDTO readPage(CodedInputStream input) throws IOException {
+        List<UserDTO> users = new ArrayList<>();
+        String nextCursor = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> {
+                    checkWireType(tag, LENGTH_DELIMITED);
+                    int limit = input.pushLimit(input.readRawVarint32());
+                    users.add(readUser(input));
+                    input.popLimit(limit);
+                }
+                case 2 -> nextCursor = readString(input, tag);
+                default -> input.skipField(tag);
+            }
+        }
+        return new UserPageDTO(users, nextCursor, null);
+    }
+
+    private static UserCreateDTO readUserCreate(CodedInputStream input) throws IOException {
+        String[] fields = new String[4];    // email, password, username, phone
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (field >= 1 && field <= 4) {
+                fields[field - 1] = readString(input, tag);
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return new UserCreateDTO(fields[0], fields[1], fields[2], fields[3]);
+    }
+
+    private static String readString(CodedInputStream input, int tag) throws IOException {
+        checkWireType(tag, LENGTH_DELIMITED);
+        return input.readString();
+    }
+
+    /**
+     * 필드 번호는 맞는데 wire type 이 다르면 (예: string 필드에 varint) 다른 스키마로 만든 본문 -> 400
+     */
+    private static void checkWireType(int tag, int expected) {
+        if (WireFormat.getTagWireType(tag) != expected) {
+            throw new IllegalArgumentException("protobuf 필드 " + WireFormat.getTagFieldNumber(tag) + " 의 wire type 이 맞지 않습니다.");
+        }
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
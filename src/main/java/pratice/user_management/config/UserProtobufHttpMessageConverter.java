@@ -0,0 +1,75 @@
+package pratice.user_management.config;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Accept / Content-Type 이 application/x-protobuf 일 때 사용자 DTO 를 protobuf 로 주고받는 컨버터
+ * (스프링 기본 ProtobufHttpMessageConverter 는 생성된 Message 클래스만 다루므로 DTO 용으로 따로 둔다)
+ */
+public class UserProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public UserProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserProtobufCodec.WRITABLE.contains(clazz) || UserProtobufCodec.READABLE.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return UserProtobufCodec.READABLE.contains(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return canRead(ResolvableType.forType(type).toClass(), mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return UserProtobufCodec.WRITABLE.contains(clazz) && canWrite(mediaType);
+    }
+
+    /**
+     * List 는 요소 타입이 UserSearchHitDTO 일 때만 (검색 응답)
+     */
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (UserProtobufCodec.WRITABLE.contains(clazz)) {
+            return true;
+        }
+        return type != null && List.class.isAssignableFrom(clazz)
+                && ResolvableType.forType(type).asCollection().resolveGeneric(0) == UserSearchHitDTO.class;
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return UserProtobufCodec.read(ResolvableType.forType(type).toClass(), inputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return UserProtobufCodec.read(clazz, inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        UserProtobufCodec.write(value, outputMessage.getBody());
+    }
+}
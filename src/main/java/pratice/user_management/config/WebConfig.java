@@ -0,0 +1,43 @@
+package pratice.user_management.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * /api/users 바이너리 응답 형식 (Accept 헤더로 선택, 기본은 JSON)
+ * - application/x-protobuf : user.proto 스키마 (GET /schema/user.proto)
+ * - application/cbor, application/x-jackson-smile : JSON 과 같은 필드, 시각은 문자열 대신 숫자 배열
+ * 스프링 부트의 Jackson 설정(모듈 등)을 그대로 쓰도록 부트의 builder 로 만든다. 등록된 컨버터는 부트가 기본 컨버터 목록에 넣는다.
+ */
+@Configuration
+@Profile("!reactive")
+public class WebConfig {
+
+    @Bean
+    public UserProtobufHttpMessageConverter userProtobufHttpMessageConverter() {
+        return new UserProtobufHttpMessageConverter();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder
+                .factory(new SmileFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+}
@@ -0,0 +1,223 @@
+package pratice.user_management.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.domain.dto.UserStatsDTO;
+import pratice.user_management.service.ReactiveUserService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static pratice.user_management.controller.ResourceTagHeaders.parseETag;
+import static pratice.user_management.controller.ResourceTagHeaders.withTag;
+
+/**
+ * reactive 프로필의 회원 API (WebFlux, UserController 와 같은 경로/응답)
+ * 목록은 Accept: application/x-ndjson 이면 페이지로 모으지 않고 한 건씩 스트리밍한다.
+ * 대량 등록(/bulk), 여러 건 삭제(DELETE ?ids), 복구(/{id}/restore), 변경 피드(/changes)는 R2DBC 쪽 구현이 없어 501 을 돌려준다.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+    private final ReactiveUserService service;
+
+    /**
+     * 회원 목록 조회 (GET /users?after={cursor}&limit={N})
+     * If-None-Match / If-Modified-Since 가 있으면 버전만 확인해서 바뀐 게 없으면 304
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<UserPageDTO>> getAllUsers(@RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "20") int limit,
+                                                         ServerWebExchange exchange) {
+        Mono<Boolean> notModified = isConditional(exchange)
+                ? service.getPageTag(after, limit).map(tag -> checkNotModified(exchange, tag))
+                : Mono.just(false);
+        return notModified.flatMap(unchanged -> unchanged
+                ? Mono.<ResponseEntity<UserPageDTO>>empty()
+                : service.getAllUsers(after, limit).map(page -> withTag(ResponseEntity.ok(), page.getTag()).body(page)));
+    }
+
+    /**
+     * 회원 목록 스트리밍 (GET /users, Accept: application/x-ndjson)
+     * 클라이언트가 읽는 속도에 맞춰 DB 에서 읽는다 (backpressure).
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserDTO> streamUsers(@RequestParam(required = false) String after,
+                                     @RequestParam(defaultValue = "20") int limit) {
+        return service.streamUsers(after, limit);
+    }
+
+    /**
+     * 회원 전체 내보내기 (GET /users/export, NDJSON)
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserDTO> exportUsers() {
+        return service.exportUsers();
+    }
+
+    /**
+     * 회원 검색 (GET /users/search?q={prefix}&limit={N}, 인메모리 인덱스)
+     */
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<UserSearchHitDTO>>> searchUsers(@RequestParam String q,
+                                                                    @RequestParam(defaultValue = "10") int limit) {
+        return service.searchUsers(q, limit).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 회원 전문 검색 (GET /users/fulltext?q={words}&limit={N})
+     */
+    @GetMapping("/fulltext")
+    public Mono<ResponseEntity<List<UserSearchHitDTO>>> fullTextSearch(@RequestParam String q,
+                                                                       @RequestParam(defaultValue = "20") int limit) {
+        return service.fullTextSearch(q, limit).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 전문 검색 인덱스 재색인 (POST /users/fulltext/reindex, 백그라운드에서 진행되므로 바로 202)
+     */
+    @PostMapping("/fulltext/reindex")
+    public Mono<ResponseEntity<String>> reindexFullText() {
+        return service.reindexFullText().map(started -> started
+                ? ResponseEntity.status(HttpStatus.ACCEPTED).body("Reindex started")
+                : ResponseEntity.status(HttpStatus.CONFLICT).body("Reindex already running"));
+    }
+
+    /**
+     * 가입 통계 (GET /users/stats?granularity=day&from=2025-01-01&to=2025-01-31&top=10)
+     */
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<UserStatsDTO>> getStats(@RequestParam(defaultValue = "day") String granularity,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                       @RequestParam(defaultValue = "10") int top) {
+        return service.getStats(granularity, from, to, top).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 변경 피드 (GET /users/changes) - reactive 프로필에서는 제공하지 않음 (501)
+     * 이 인스턴스의 쓰기도 user_outbox 에 남으므로 MVC 인스턴스의 /changes 로 받을 수 있다.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<String> streamChanges() {
+        return notImplemented("/changes");
+    }
+
+    /**
+     * 특정 회원 조회 (GET /users/{id})
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserDTO>> getUser(@PathVariable Long id, ServerWebExchange exchange) {
+        Mono<Boolean> notModified = isConditional(exchange)
+                ? service.getUserTag(id).map(tag -> checkNotModified(exchange, tag))
+                : Mono.just(false);
+        return notModified.flatMap(unchanged -> unchanged
+                ? Mono.<ResponseEntity<UserDTO>>empty()
+                : service.getUser(id).map(user ->
+                        withTag(ResponseEntity.ok(), ResourceTagDTO.ofUser(user.getVersion(), user.getUpdatedAt())).body(user)));
+    }
+
+    /**
+     * 특정 회원 생성 (POST /users)
+     */
+    @PostMapping
+    public Mono<ResponseEntity<String>> createUser(@RequestBody UserCreateDTO userCreateDTO) {
+        return service.createUser(userCreateDTO)
+                .thenReturn(ResponseEntity.ok("User created successfully!"));
+    }
+
+    /**
+     * 대량 회원 생성 (POST /users/bulk) - reactive 프로필에서는 제공하지 않음 (501)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<String> createUsers() {
+        return notImplemented("/bulk");
+    }
+
+    /**
+     * 비밀번호 확인 (POST /users/verify, email + password)
+     */
+    @PostMapping("/verify")
+    public Mono<ResponseEntity<String>> verifyPassword(@RequestBody UserCreateDTO userCreateDTO) {
+        return service.verifyPassword(userCreateDTO.getEmail(), userCreateDTO.getPassword())
+                .map(verified -> verified
+                        ? ResponseEntity.ok("Password verified")
+                        : ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password"));
+    }
+
+    /**
+     * 특정 사용자 삭제 (DELETE /users/{id})
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteUser(@PathVariable Long id) {
+        return service.deleteUser(id)
+                .thenReturn(ResponseEntity.ok("User deleted successfully!"));
+    }
+
+    /**
+     * 여러 사용자 삭제 (DELETE /users?ids=1,2,3) - reactive 프로필에서는 제공하지 않음 (501)
+     */
+    @DeleteMapping
+    public ResponseEntity<String> deleteUsers() {
+        return notImplemented("DELETE ?ids");
+    }
+
+    /**
+     * 삭제한 사용자 복구 (POST /users/{id}/restore) - reactive 프로필에서는 제공하지 않음 (501)
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<String> restoreUser(@PathVariable Long id) {
+        return notImplemented("/{id}/restore");
+    }
+
+    /**
+     * 특정 사용자 정보 수정 (PUT /users/{id}, If-Match 로 버전 확인)
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UserDTO>> updateUser(@PathVariable Long id,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @RequestBody UserCreateDTO userCreateDTO) {
+        return service.updateUser(id, parseETag(ifMatch), userCreateDTO)
+                .map(user -> withTag(ResponseEntity.ok(), ResourceTagDTO.ofUser(user.getVersion(), user.getUpdatedAt()))
+                        .body(user));
+    }
+
+    /**
+     * reactive 프로필에서 제공하지 않는 API (경로가 /{id} 로 해석되어 400 이 나지 않도록 명시적으로 501)
+     */
+    private ResponseEntity<String> notImplemented(String api) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
+                .body(api + " is not supported in the reactive profile");
+    }
+
+    private boolean isConditional(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        return headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    /**
+     * 바뀐 게 없으면 304 를 설정하고 true (본문은 비워 둔다)
+     */
+    private boolean checkNotModified(ServerWebExchange exchange, ResourceTagDTO tag) {
+        return tag.getLastModified() >= 0
+                ? exchange.checkNotModified(tag.getETag(), Instant.ofEpochMilli(tag.getLastModified()))
+                : exchange.checkNotModified(tag.getETag());
+    }
+}
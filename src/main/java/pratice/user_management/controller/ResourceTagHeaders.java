@@ -0,0 +1,44 @@
+package pratice.user_management.controller;
+
+import org.springframework.http.ResponseEntity;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.exception.PreconditionFailedException;
+
+/**
+ * ETag / Last-Modified / If-Match 헤더 처리 (UserController, ReactiveUserController 가 같은 규칙을 쓰도록 공용)
+ */
+final class ResourceTagHeaders {
+
+    private ResourceTagHeaders() {
+    }
+
+    /**
+     * 응답에 ETag / Last-Modified 헤더 추가
+     */
+    static ResponseEntity.BodyBuilder withTag(ResponseEntity.BodyBuilder builder, ResourceTagDTO tag) {
+        builder.eTag(tag.getETag());
+        if (tag.getLastModified() >= 0) {
+            builder.lastModified(tag.getLastModified());
+        }
+        return builder;
+    }
+
+    /**
+     * If-Match ETag -> 버전 (없거나 * 이면 null, 약한 ETag 면 412)
+     */
+    static Long parseETag(String eTag) {
+        if (eTag == null || eTag.isBlank() || eTag.trim().equals("*")) {
+            return null;
+        }
+        String tag = eTag.trim();
+        if (tag.startsWith("W/")) {
+            // If-Match 는 강한 비교만 허용 (RFC 9110 13.1.1) -> 약한 ETag 는 어떤 버전과도 일치하지 않음
+            throw new PreconditionFailedException("If-Match 에는 약한 ETag 를 쓸 수 없습니다.");
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 If-Match 값입니다.");
+        }
+    }
+}
@@ -1,31 +1,179 @@
 package pratice.user_management.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.domain.dto.UserBulkResultDTO;
 import pratice.user_management.domain.dto.UserCreateDTO;
 import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageBytesDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.domain.dto.UserStatsDTO;
+import pratice.user_management.service.UserChangeFeed;
+import pratice.user_management.service.UserListSnapshot;
 import pratice.user_management.service.UserService;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+
+import static pratice.user_management.controller.ResourceTagHeaders.parseETag;
+import static pratice.user_management.controller.ResourceTagHeaders.withTag;
 
 @RestController     // REST API 컨트롤러 선언
+@Profile("!reactive")
 @RequestMapping("/api/users")    // 모든 엔드포인트가 "/user 로 시작
 @RequiredArgsConstructor    // 생성자 자동 생성
 public class UserController {
     private final UserService service;
+    private final ObjectMapper objectMapper;
+    private final Optional<UserListSnapshot> snapshot;  // user.snapshot.enabled=true 일 때만
+    private final UserChangeFeed changeFeed;
 
     /**
-     * 회원 전체 조회 (GET /users)
+     * 회원 목록 조회 (GET /users?after={cursor}&limit={N})
+     * If-None-Match / If-Modified-Since 가 있으면 버전만 확인해서 바뀐 게 없으면 304
+     * JSON 요청이고 스냅샷에 있는 페이지면 미리 직렬화해 둔 바이트를 그대로 내려준다.
      *
-     * @return 모든 사용자 DTO 리스트
+     * @param after 이전 응답의 nextCursor (없으면 처음부터)
+     * @param limit 한 페이지 크기
+     * @return 사용자 DTO 리스트와 다음 페이지 커서
      */
     @GetMapping()
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        List<UserDTO> users = service.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String after,
+                                         @RequestParam(defaultValue = "20") int limit,
+                                         WebRequest webRequest) {
+        UserPageBytesDTO cached = acceptsJson(webRequest)
+                ? snapshot.flatMap(s -> s.find(after, limit)).orElse(null)
+                : null;
+        if (cached != null) {
+            if (webRequest.checkNotModified(cached.getTag().getETag(), cached.getTag().getLastModified())) {
+                return null;
+            }
+            return snapshotResponse(cached, webRequest);
+        }
+
+        if (isConditional(webRequest)) {
+            ResourceTagDTO tag = service.getPageTag(after, limit);
+            if (webRequest.checkNotModified(tag.getETag(), tag.getLastModified())) {
+                return null;
+            }
+        }
+
+        UserPageDTO users = service.getAllUsers(after, limit);
+        return withTag(ResponseEntity.ok(), users.getTag())
+                .body(users);
+    }
+
+
+    /**
+     * 회원 전체 내보내기 (GET /users/export)
+     * 한 줄에 사용자 하나씩(NDJSON) 읽는 즉시 응답 스트림에 쓴다.
+     *
+     * @return NDJSON 스트리밍 응답
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        ObjectWriter ndjson = UserNdjsonExport.writer(objectMapper);
+        StreamingResponseBody body = out -> UserNdjsonExport.write(ndjson, service, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+
+    /**
+     * 회원 변경 피드 (GET /users/changes?since={seq}, SSE)
+     * 생성/수정/삭제를 seq 순서로 보낸다. 각 이벤트의 id 가 seq 이므로 끊겼다가 다시 연결하면 Last-Event-ID 다음부터 이어 받는다.
+     *
+     * @param since       이 seq 다음부터 (없으면 지금부터)
+     * @param lastEventId EventSource 가 재연결할 때 보내는 마지막 seq (since 보다 우선)
+     * @return 변경 이벤트 스트림
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
+
+    /**
+     * 회원 검색 (GET /users/search?q={prefix}&limit={N})
+     * username(또는 그 안의 단어) / email 이 q 로 시작하는 회원
+     *
+     * @param q     검색어 (접두사)
+     * @param limit 최대 결과 수
+     * @return 검색된 회원 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchHitDTO>> searchUsers(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(service.searchUsers(q, limit));
+    }
+
+
+    /**
+     * 회원 전문 검색 (GET /users/fulltext?q={words}&limit={N})
+     * 이름 일부, 이메일 조각, 전화번호 숫자를 순서 상관없이 섞어서 검색, 점수순
+     *
+     * @param q     검색어
+     * @param limit 최대 결과 수
+     * @return 검색된 회원 목록
+     */
+    @GetMapping("/fulltext")
+    public ResponseEntity<List<UserSearchHitDTO>> fullTextSearch(@RequestParam String q,
+                                                                 @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(service.fullTextSearch(q, limit));
+    }
+
+    /**
+     * 전문 검색 인덱스 재색인 (POST /users/fulltext/reindex)
+     * 백그라운드에서 진행되므로 바로 202 를 돌려준다.
+     */
+    @PostMapping("/fulltext/reindex")
+    public ResponseEntity<String> reindexFullText() {
+        if (!service.reindexFullText()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Reindex already running");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body("Reindex started");
+    }
+
+
+    /**
+     * 가입 통계 (GET /users/stats?granularity=day&from=2025-01-01&to=2025-01-31&top=10)
+     * 기간별 가입자 수와 사용자가 많은 이메일 도메인, 메모리의 집계만 읽는다.
+     *
+     * @param granularity day / hour
+     * @param from        시작 날짜 (없으면 처음부터)
+     * @param to          끝 날짜, 포함 (없으면 오늘까지)
+     * @param top         도메인 상위 몇 개
+     * @return 가입 통계
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsDTO> getStats(@RequestParam(defaultValue = "day") String granularity,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                 @RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(service.getStats(granularity, from, to, top));
     }
 
 
@@ -36,7 +184,15 @@ public class UserController {
      * @return 조회된 사용자 DTO
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getUser(@PathVariable Long id) {
+    public ResponseEntity<?> getUser(@PathVariable Long id, WebRequest webRequest) {
+        // 조건부 요청이면 버전만 확인해서 바뀐 게 없으면 본문 없이 304
+        if (isConditional(webRequest)) {
+            ResourceTagDTO tag = service.getUserTag(id);
+            if (webRequest.checkNotModified(tag.getETag(), tag.getLastModified())) {
+                return null;
+            }
+        }
+
         UserDTO user = service.getUser(id);
 
         // 올바른 값이 아닌 경우, 근데 이건 알아서 걸러지므로 생략
@@ -46,7 +202,8 @@ public class UserController {
         }
         */
 
-        return ResponseEntity.ok(user);
+        return withTag(ResponseEntity.ok(), ResourceTagDTO.ofUser(user.getVersion(), user.getUpdatedAt()))
+                .body(user);
     }
 
 
@@ -62,8 +219,48 @@ public class UserController {
         return ResponseEntity.ok("User created successfully!");
     }
 
+    /**
+     * 대량 회원 생성 (POST /users/bulk, JSON 배열)
+     *
+     * @param users 회원가입 요청 데이터 목록
+     * @return 항목별 생성/중복/잘못된 항목 결과
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserBulkResultDTO> createUsers(@RequestBody List<UserCreateDTO> users) {
+        return ResponseEntity.ok(service.createUsers(users.iterator()));
+    }
+
+    /**
+     * 대량 회원 생성 (POST /users/bulk, NDJSON 스트림)
+     * 본문 전체를 메모리에 올리지 않고 읽으면서 청크 단위로 저장한다.
+     *
+     * @return 항목별 생성/중복/잘못된 항목 결과
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<UserBulkResultDTO> createUsersStream(HttpServletRequest request) throws IOException {
+        try (MappingIterator<UserCreateDTO> users = objectMapper.readerFor(UserCreateDTO.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(service.createUsers(users));
+        }
+    }
+
+    /**
+     * 비밀번호 확인 (POST /users/verify, email + password)
+     *
+     * @param userCreateDTO 이메일과 비밀번호
+     * @return 맞으면 200, 틀리거나 없는 이메일이면 401
+     */
+    @PostMapping("/verify")
+    public ResponseEntity<String> verifyPassword(@RequestBody UserCreateDTO userCreateDTO) {
+        if (!service.verifyPassword(userCreateDTO.getEmail(), userCreateDTO.getPassword())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+        }
+        return ResponseEntity.ok("Password verified");
+    }
+
     /**
      * 특정 사용자 삭제 (DELETE /users/{id})
+     * 삭제 표시만 하므로 보관 기간(user.archive.after-days) 안에는 복구할 수 있다.
      *
      * @param id 삭제할 사용자 ID
      */
@@ -73,17 +270,126 @@ public class UserController {
         return ResponseEntity.ok("User deleted successfully!");
     }
 
+    /**
+     * 여러 사용자 삭제 (DELETE /users?ids=1,2,3)
+     * id 가 많아서 URL 에 다 안 들어가면 본문에 JSON 배열로 보낸다.
+     *
+     * @param ids     삭제할 사용자 ID 목록 (쿼리 파라미터)
+     * @param bodyIds 삭제할 사용자 ID 목록 (본문)
+     */
+    @DeleteMapping
+    public ResponseEntity<String> deleteUsers(@RequestParam(required = false) List<Long> ids,
+                                              @RequestBody(required = false) List<Long> bodyIds) {
+        List<Long> targets = ids != null ? ids : bodyIds;
+        if (targets == null || targets.isEmpty()) {
+            throw new IllegalArgumentException("삭제할 id 가 없습니다.");
+        }
+        int deleted = service.deleteUsers(targets);
+        return ResponseEntity.ok(deleted + " users deleted successfully!");
+    }
+
+    /**
+     * 삭제한 사용자 복구 (POST /users/{id}/restore)
+     *
+     * @param id 복구할 사용자 ID
+     * @return 복구된 사용자 정보
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<UserDTO> restoreUser(@PathVariable Long id) {
+        UserDTO restored = service.restoreUser(id);
+        return withTag(ResponseEntity.ok(), ResourceTagDTO.ofUser(restored.getVersion(), restored.getUpdatedAt()))
+                .body(restored);
+    }
+
     /**
      * 특정 사용자 정보 수정 (PUT /users/{id})
+     * If-Match 에 조회 때 받은 ETag 를 보내면 그 사이 다른 수정이 있었을 때 409 를 받는다 (약한 ETag 는 412).
      *
      * @param id            수정할 사용자 ID
-     * @param userCreateDTO 수정할 데이터 (DTO)
+     * @param ifMatch       조회 때 받은 ETag (없으면 버전 확인 없이 수정)
+     * @param userCreateDTO 수정할 데이터 (DTO, null 인 필드는 그대로 둠)
      * @return 업데이트된 사용자 정보
      */
     @PutMapping("/{id}")
-    public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, @RequestBody UserCreateDTO userCreateDTO) {
-        UserDTO updatedUser = service.updateUser(id, userCreateDTO);
-        return ResponseEntity.ok(updatedUser);
+    public ResponseEntity<UserDTO> updateUser(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestBody UserCreateDTO userCreateDTO) {
+        UserDTO updatedUser = service.updateUser(id, parseETag(ifMatch), userCreateDTO);
+        return withTag(ResponseEntity.ok(), ResourceTagDTO.ofUser(updatedUser.getVersion(), updatedUser.getUpdatedAt()))
+                .body(updatedUser);
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 가 있는 요청인지
+     */
+    private boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * 스냅샷 페이지 응답 (클라이언트가 gzip 을 받으면 미리 압축해 둔 본문)
+     * byte[] 본문은 ByteArrayHttpMessageConverter 가 복사 없이 그대로 쓴다.
+     */
+    private ResponseEntity<byte[]> snapshotResponse(UserPageBytesDTO page, WebRequest webRequest) {
+        boolean gzip = page.getGzip() != null && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder builder = withTag(ResponseEntity.ok(), page.getTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? page.getGzip() : page.getJson());
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 받는지 (q=0 은 거절, gzip 이 없으면 * 를 따름)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        double q = gzip != null ? gzip : any != null ? any : 0;
+        return q > 0;
+    }
+
+    /**
+     * 가장 우선하는 Accept 가 JSON 인지 (없으면 JSON)
+     */
+    private boolean acceptsJson(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            List<MediaType> types = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(types);
+            return types.isEmpty() || types.get(0).isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
 }
 
@@ -0,0 +1,56 @@
+package pratice.user_management.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import pratice.user_management.service.UserService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 내보내기 NDJSON 쓰기 (GET /users/export 응답과 벤치마크가 같은 경로를 쓰도록 공용)
+ */
+public final class UserNdjsonExport {
+
+    private UserNdjsonExport() {
+    }
+
+    /**
+     * 한 줄에 사용자 하나씩 쓰는 writer (행마다 flush 하지 않고 generator 버퍼가 찰 때만 내보낸다)
+     */
+    public static ObjectWriter writer(ObjectMapper objectMapper) {
+        return objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * 사용자를 읽는 즉시 out 에 쓴다
+     *
+     * @return 쓴 행 수
+     */
+    public static long write(ObjectWriter ndjson, UserService service, OutputStream out) throws IOException {
+        // 구분자는 행 사이에만 들어가므로 마지막 행 뒤의 줄바꿈은 직접 쓴다 (행이 없으면 빈 본문)
+        AtomicLong written = new AtomicLong();
+        try (SequenceWriter writer = ndjson.writeValues(out)) {
+            service.forEachUser(user -> {
+                try {
+                    writer.write(user);
+                    written.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (written.get() > 0) {
+            out.write('\n');
+        }
+        return written.get();
+    }
+}
@@ -0,0 +1,15 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+// 이메일 도메인별 사용자 수
+@Getter
+public class DomainCountDTO {
+    private final String domain;
+    private final long count;
+
+    public DomainCountDTO(String domain, long count) {
+        this.domain = domain;
+        this.count = count;
+    }
+}
@@ -0,0 +1,29 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 응답의 ETag / Last-Modified 값
+@Getter
+public class ResourceTagDTO {
+    private final String eTag;          // 따옴표 포함 강한 ETag ("3")
+    private final long lastModified;    // epoch millis, 모르면 -1
+
+    public ResourceTagDTO(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 사용자 한 명의 태그 (ETag 는 버전, PUT 의 If-Match 에 그대로 사용)
+     */
+    public static ResourceTagDTO ofUser(long version, LocalDateTime updatedAt) {
+        return new ResourceTagDTO("\"" + version + "\"", toEpochMillis(updatedAt));
+    }
+
+    public static long toEpochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,17 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 시간 구간별 가입자 수 (start 부터 한 시간 또는 하루)
+@Getter
+public class SignupCountDTO {
+    private final LocalDateTime start;
+    private final long count;
+
+    public SignupCountDTO(LocalDateTime start, long count) {
+        this.start = start;
+        this.count = count;
+    }
+}
@@ -0,0 +1,23 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대량 등록 항목별 결과
+@Getter
+@NoArgsConstructor
+public class UserBulkItemDTO {
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";    // 이메일 또는 비밀번호가 없음 (저장하지 않음)
+
+    private int index;      // 요청 안에서의 순번 (0부터)
+    private String email;
+    private String status;  // CREATED / DUPLICATE / INVALID
+
+    public UserBulkItemDTO(int index, String email, String status) {
+        this.index = index;
+        this.email = email;
+        this.status = status;
+    }
+}
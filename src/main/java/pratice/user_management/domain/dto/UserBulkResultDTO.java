@@ -0,0 +1,23 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 대량 등록 응답용
+@Getter
+@NoArgsConstructor
+public class UserBulkResultDTO {
+    private int created;
+    private int duplicated;
+    private int invalid;
+    private List<UserBulkItemDTO> items;
+
+    public UserBulkResultDTO(List<UserBulkItemDTO> items) {
+        this.items = items;
+        this.created = (int) items.stream().filter(item -> UserBulkItemDTO.CREATED.equals(item.getStatus())).count();
+        this.duplicated = (int) items.stream().filter(item -> UserBulkItemDTO.DUPLICATE.equals(item.getStatus())).count();
+        this.invalid = items.size() - created - duplicated;
+    }
+}
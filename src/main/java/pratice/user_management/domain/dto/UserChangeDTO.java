@@ -0,0 +1,29 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 변경 피드(GET /users/changes) 항목, seq 는 이어 받기용 위치 (SSE id 로도 나감)
+@Getter
+@NoArgsConstructor
+public class UserChangeDTO {
+    private long seq;
+    private String type;        // CREATED / UPDATED / DELETED / RESTORED
+    private long id;
+    private String email;       // DELETED 면 null
+    private String username;    // DELETED 면 null
+    private String phone;
+    private LocalDateTime at;
+
+    public UserChangeDTO(long seq, String type, long id, String email, String username, String phone, LocalDateTime at) {
+        this.seq = seq;
+        this.type = type;
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.phone = phone;
+        this.at = at;
+    }
+}
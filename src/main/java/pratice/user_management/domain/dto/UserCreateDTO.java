@@ -17,4 +17,21 @@ public class UserCreateDTO {
         this.username = username;
         this.phone = phone;
     }
+
+    /**
+     * 비밀번호만 바꾼 복사본 (해시해서 저장할 때)
+     */
+    public UserCreateDTO withPassword(String password) {
+        return new UserCreateDTO(email, password, username, phone);
+    }
+
+    /**
+     * 부분 수정 두 개 합치기 (later 에 값이 있는 필드는 later 가 이김)
+     */
+    public UserCreateDTO overriddenBy(UserCreateDTO later) {
+        return new UserCreateDTO(later.email != null ? later.email : email,
+                later.password != null ? later.password : password,
+                later.username != null ? later.username : username,
+                later.phone != null ? later.phone : phone);
+    }
 }
@@ -1,5 +1,6 @@
 package pratice.user_management.domain.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -13,12 +14,18 @@ public class UserDTO {
     private String username;
     private String phone;
     private LocalDateTime createdAt;
+    @JsonIgnore
+    private long version;   // 본문 대신 ETag 헤더로 나감
+    @JsonIgnore
+    private LocalDateTime updatedAt;    // 본문 대신 Last-Modified 헤더로 나감
 
-    public UserDTO(String email, String username, String phone, LocalDateTime createdAt) {
+    public UserDTO(String email, String username, String phone, LocalDateTime createdAt, long version, LocalDateTime updatedAt) {
         this.email = email;
         this.username = username;
         this.phone = phone;
         this.createdAt = createdAt;
+        this.version = version;
+        this.updatedAt = updatedAt;
     }
 }
 
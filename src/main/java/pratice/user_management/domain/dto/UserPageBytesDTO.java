@@ -0,0 +1,19 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+// 미리 직렬화해 둔 목록 페이지 (UserListSnapshot 이 만들고 그대로 응답 본문으로 쓴다, 만든 뒤에는 바꾸지 않음)
+@Getter
+public class UserPageBytesDTO {
+    private final String nextCursor;    // 마지막 페이지면 null
+    private final ResourceTagDTO tag;
+    private final byte[] json;          // UserPageDTO 의 JSON
+    private final byte[] gzip;          // json 을 gzip 으로 압축한 것, 끄면 null
+
+    public UserPageBytesDTO(String nextCursor, ResourceTagDTO tag, byte[] json, byte[] gzip) {
+        this.nextCursor = nextCursor;
+        this.tag = tag;
+        this.json = json;
+        this.gzip = gzip;
+    }
+}
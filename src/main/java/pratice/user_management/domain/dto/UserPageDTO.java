@@ -0,0 +1,23 @@
+package pratice.user_management.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 페이징 응답용
+@Getter
+@NoArgsConstructor
+public class UserPageDTO {
+    private List<UserDTO> users;
+    private String nextCursor;  // 마지막 페이지면 null
+    @JsonIgnore
+    private ResourceTagDTO tag; // 본문 대신 ETag / Last-Modified 헤더로 나감
+
+    public UserPageDTO(List<UserDTO> users, String nextCursor, ResourceTagDTO tag) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+        this.tag = tag;
+    }
+}
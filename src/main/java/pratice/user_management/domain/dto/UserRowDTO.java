@@ -0,0 +1,32 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 프로젝션 (커서 계산에 필요한 id 포함, API 로는 UserDTO 만 나감)
+@Getter
+public class UserRowDTO {
+    private final long id;
+    private final String email;
+    private final String username;
+    private final String phone;
+    private final LocalDateTime createdAt;
+    private final long version;
+    private final LocalDateTime updatedAt;
+
+    public UserRowDTO(long id, String email, String username, String phone, LocalDateTime createdAt,
+                      long version, LocalDateTime updatedAt) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.phone = phone;
+        this.createdAt = createdAt;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public UserDTO toUserDTO() {
+        return new UserDTO(email, username, phone, createdAt, version, updatedAt);
+    }
+}
@@ -0,0 +1,19 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+// 검색 결과 (관리자 화면에서 바로 선택할 수 있도록 id 포함)
+@Getter
+public class UserSearchHitDTO {
+    private final long id;
+    private final String email;
+    private final String username;
+    private final String phone;
+
+    public UserSearchHitDTO(long id, String email, String username, String phone) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.phone = phone;
+    }
+}
@@ -0,0 +1,19 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 통계 집계용 (가입 시각, 이메일만)
+@Getter
+public class UserSignupDTO {
+    private final long id;
+    private final String email;
+    private final LocalDateTime createdAt;
+
+    public UserSignupDTO(long id, String email, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.createdAt = createdAt;
+    }
+}
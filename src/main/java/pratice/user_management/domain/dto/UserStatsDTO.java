@@ -0,0 +1,24 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 통계 응답용 (GET /users/stats)
+@Getter
+public class UserStatsDTO {
+    private final boolean complete;             // 시작 후 집계가 끝났는지 (false 면 일부만 반영된 값)
+    private final long totalUsers;
+    private final String granularity;           // hour / day
+    private final List<SignupCountDTO> signups; // 가입이 있었던 구간만, 시간순
+    private final List<DomainCountDTO> topDomains;
+
+    public UserStatsDTO(boolean complete, long totalUsers, String granularity,
+                        List<SignupCountDTO> signups, List<DomainCountDTO> topDomains) {
+        this.complete = complete;
+        this.totalUsers = totalUsers;
+        this.granularity = granularity;
+        this.signups = signups;
+        this.topDomains = topDomains;
+    }
+}
@@ -0,0 +1,19 @@
+package pratice.user_management.domain.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 조건부 GET 확인용 프로젝션 (본문 없이 버전/수정 시각만)
+@Getter
+public class UserVersionDTO {
+    private final long id;
+    private final long version;
+    private final LocalDateTime updatedAt;
+
+    public UserVersionDTO(long id, long version, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+}
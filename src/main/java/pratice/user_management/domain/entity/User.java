@@ -2,11 +2,13 @@ package pratice.user_management.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_deleted_at_id", columnList = "deleted_at, id"))
+@SQLRestriction("deleted_at IS NULL")  // 삭제 표시된 행은 JPA 조회에서 모두 빠짐 (보관 전까지 복구 가능)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 이거 뭐임?
@@ -33,6 +35,14 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 삭제 표시 시각 (null 이면 활성 사용자), 오래되면 UserArchiver 가 users_archive 로 옮긴다
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @PrePersist
     protected void prePersist() {
         this.createdAt = LocalDateTime.now();
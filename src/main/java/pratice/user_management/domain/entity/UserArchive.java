@@ -0,0 +1,48 @@
+package pratice.user_management.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 사용자 테이블 (sql/ddl.sql 의 users_archive 와 같음, ddl-auto 로 만들 때의 정의)
+ * 옮기기/삭제는 UserArchiveRepository 가 JDBC 로 직접 한다.
+ */
+@Entity
+@Table(name = "users_archive", indexes = @Index(name = "idx_users_archive_archived_at", columnList = "archived_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserArchive {
+    @Id
+    private long id;
+
+    @Column(nullable = false, length = 50)
+    private String email;
+
+    @Column(nullable = false, length = 100)
+    private String password;
+
+    @Column(nullable = false, length = 30)
+    private String username;
+
+    @Column(length = 20)
+    private String phone;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,39 @@
+package pratice.user_management.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 outbox 테이블 (sql/ddl.sql 의 user_outbox 와 같음, ddl-auto 로 만들 때의 정의)
+ * 쓰기/읽기는 UserOutboxRepository 가 JDBC 로 직접 한다.
+ */
+@Entity
+@Table(name = "user_outbox", indexes = @Index(name = "idx_user_outbox_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserOutbox {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long seq;
+
+    @Column(nullable = false, length = 10)
+    private String type;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(length = 50)
+    private String email;
+
+    @Column(length = 30)
+    private String username;
+
+    @Column(length = 20)
+    private String phone;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,50 @@
+package pratice.user_management.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 생성/수정/삭제/복구 이벤트 (UserService 가 발행, 인메모리 인덱스들이 구독)
+ * 트랜잭션 안에서 발행되면 커밋 후에 전달된다 (@TransactionalEventListener).
+ */
+@Getter
+public class UserChangedEvent {
+    public enum Type { CREATED, UPDATED, DELETED, RESTORED }
+
+    private final Type type;
+    private final long id;
+    private final String email;     // DELETED 면 null
+    private final String username;  // DELETED 면 null
+    private final String phone;     // DELETED 면 null
+    private final LocalDateTime createdAt;  // RESTORED 만 (원래 가입 시각)
+
+    public UserChangedEvent(Type type, long id, String email, String username, String phone) {
+        this(type, id, email, username, phone, null);
+    }
+
+    private UserChangedEvent(Type type, long id, String email, String username, String phone, LocalDateTime createdAt) {
+        this.type = type;
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.phone = phone;
+        this.createdAt = createdAt;
+    }
+
+    public static UserChangedEvent created(long id, String email, String username, String phone) {
+        return new UserChangedEvent(Type.CREATED, id, email, username, phone);
+    }
+
+    public static UserChangedEvent updated(long id, String email, String username, String phone) {
+        return new UserChangedEvent(Type.UPDATED, id, email, username, phone);
+    }
+
+    public static UserChangedEvent deleted(long id) {
+        return new UserChangedEvent(Type.DELETED, id, null, null, null);
+    }
+
+    public static UserChangedEvent restored(long id, String email, String username, String phone, LocalDateTime createdAt) {
+        return new UserChangedEvent(Type.RESTORED, id, email, username, phone, createdAt);
+    }
+}
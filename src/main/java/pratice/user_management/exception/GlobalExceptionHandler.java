@@ -1,6 +1,8 @@
 package pratice.user_management.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +12,7 @@ import pratice.user_management.domain.dto.ErrorResponseDTO;
 import java.util.Map;
 
 @RestControllerAdvice
+@Profile("!reactive")   // reactive 프로필은 ReactiveExceptionHandler
 public class GlobalExceptionHandler {
 
     // 사용자가 존재하지 않음 (404)
@@ -23,6 +26,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    // 다른 요청이 먼저 수정함 (409)
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleVersionConflict(VersionConflictException ex, HttpServletRequest request) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.CONFLICT.value(),
+                "Version conflict",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // If-Match 조건을 확인할 수 없음 (412)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition failed",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    // 처리 대기열이 가득 참 (503, 잠시 후 다시 시도)
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceBusy(ServiceBusyException ex, HttpServletRequest request) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service busy",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     // 잘못된 요청 (400)
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponseDTO> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
@@ -0,0 +1,10 @@
+package pratice.user_management.exception;
+
+/**
+ * 조건부 요청의 조건을 확인할 수 없을 때 발생하는 예외 (예: If-Match 에 약한 ETag)
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,62 @@
+package pratice.user_management.exception;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pratice.user_management.domain.dto.ErrorResponseDTO;
+
+/**
+ * reactive 프로필의 예외 처리 (GlobalExceptionHandler 와 같은 응답, 요청 객체만 WebFlux 용)
+ */
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    // 사용자가 존재하지 않음 (404)
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleUserNotFound(UserNotFoundException ex, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Not exist user", request);
+    }
+
+    // 다른 요청이 먼저 수정함 (409)
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleVersionConflict(VersionConflictException ex, ServerHttpRequest request) {
+        return error(HttpStatus.CONFLICT, "Version conflict", request);
+    }
+
+    // If-Match 조건을 확인할 수 없음 (412)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePreconditionFailed(PreconditionFailedException ex, ServerHttpRequest request) {
+        return error(HttpStatus.PRECONDITION_FAILED, "Precondition failed", request);
+    }
+
+    // 처리 대기열이 가득 참 (503, 잠시 후 다시 시도)
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceBusy(ServiceBusyException ex, ServerHttpRequest request) {
+        ResponseEntity<ErrorResponseDTO> response = error(HttpStatus.SERVICE_UNAVAILABLE, "Service busy", request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    // 잘못된 요청 (400)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIllegalArgument(IllegalArgumentException ex, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", request);
+    }
+
+    // 내부 서버 오류 (500)
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDTO> handleGeneralException(Exception ex, ServerHttpRequest request) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", request);
+    }
+
+    private ResponseEntity<ErrorResponseDTO> error(HttpStatus status, String message, ServerHttpRequest request) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponseDTO(status.value(), message, request.getPath().value()));
+    }
+}
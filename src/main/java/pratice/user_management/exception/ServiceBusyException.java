@@ -0,0 +1,10 @@
+package pratice.user_management.exception;
+
+/**
+ * 처리 대기열이 가득 차서 요청을 바로 거절할 때 발생하는 예외 (잠시 후 다시 시도)
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package pratice.user_management.exception;
+
+/**
+ * 수정하려는 사용자의 버전이 요청한 버전과 다를 때 발생하는 예외 (다른 요청이 먼저 수정함)
+ */
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
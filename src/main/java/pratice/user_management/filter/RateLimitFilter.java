@@ -0,0 +1,146 @@
+package pratice.user_management.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/users 앞단의 클라이언트별 요청 수 제한
+ * 클라이언트(IP, client-header 를 설정했으면 그 헤더 값) x 경로마다 토큰 버킷을 두고, 넘치면 컨트롤러/DB 까지 가지 않고 바로 429 + Retry-After.
+ * 버킷은 크기 제한 + 미사용 만료가 있는 Caffeine 맵에 두므로 클라이언트가 많아도 메모리가 일정하다.
+ * 429 본문은 ErrorResponseDTO 와 같은 모양으로 직접 써서 예외 처리(GlobalExceptionHandler) 경로를 타지 않는다.
+ */
+@Component
+@Profile("!reactive")   // 서블릿 필터라 WebFlux 에는 걸리지 않음
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "user.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String PREFIX = "/api/users";
+    private static final int MAX_CLIENT_KEY_LENGTH = 64;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+    private final String clientHeader;
+    private final Cache<String, TokenBucket> buckets;
+    private final long[] intervals = new long[RateLimitRoute.values().length];
+    private final long[] tolerances = new long[RateLimitRoute.values().length];
+    private final Counter[] rejected = new Counter[RateLimitRoute.values().length];
+
+    public RateLimitFilter(Environment environment,
+                           MeterRegistry meterRegistry,
+                           @Value("${user.rate-limit.client-header:}") String clientHeader,
+                           @Value("${user.rate-limit.max-clients:100000}") long maxClients,
+                           @Value("${user.rate-limit.idle-seconds:600}") long idleSeconds) {
+        this.clientHeader = clientHeader;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            String limit = environment.getProperty("user.rate-limit." + route.getKey(), route.getDefaultLimit());
+            String[] parts = limit.split(",");
+            double perSecond = Double.parseDouble(parts[0].trim());
+            long burst = parts.length > 1 ? Long.parseLong(parts[1].trim()) : 1;
+            if (perSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("잘못된 요청 수 제한입니다: user.rate-limit." + route.getKey() + "=" + limit);
+            }
+            intervals[route.ordinal()] = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+            tolerances[route.ordinal()] = intervals[route.ordinal()] * (burst - 1);
+            rejected[route.ordinal()] = meterRegistry.counter("user.rate_limit.rejected", "route", route.getKey());
+        }
+        Gauge.builder("user.rate_limit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    public long acquire(RateLimitRoute route, String clientKey) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(route.ordinal() + clientKey, key -> new TokenBucket(now));
+        return bucket.tryAcquire(now, intervals[route.ordinal()], tolerances[route.ordinal()]);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PREFIX, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + PREFIX.length());
+        RateLimitRoute route = path.isEmpty() || path.charAt(0) == '/'
+                ? RateLimitRoute.resolve(request.getMethod(), path)
+                : null;
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long wait = acquire(route, clientKey(request, clientHeader));
+        if (wait == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        rejected[route.ordinal()].increment();
+        reject(request, response, wait);
+    }
+
+    /**
+     * 클라이언트 구분 값 (프록시 뒤라면 server.forward-headers-strategy 로 실제 IP 를 받아야 함)
+     * 헤더 값은 인증되지 않은 값이라 클라이언트가 매번 바꾸면 새 버킷을 받는다.
+     * 그래서 clientHeader 는 앞단의 신뢰하는 프록시가 키를 확인하고 그 헤더를 덮어쓸 때만 설정하고, 비어 있으면 IP 만 쓴다.
+     */
+    static String clientKey(HttpServletRequest request, String clientHeader) {
+        String key = clientHeader.isEmpty() ? null : request.getHeader(clientHeader);
+        if (key == null || key.isBlank()) {
+            return "ip:" + request.getRemoteAddr();
+        }
+        return "key:" + (key.length() > MAX_CLIENT_KEY_LENGTH ? key.substring(0, MAX_CLIENT_KEY_LENGTH) : key);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        byte[] body = ("{\"timestamp\":\"" + TIMESTAMP.format(ZonedDateTime.now(ZoneOffset.UTC))
+                + "\",\"status\":" + HttpStatus.TOO_MANY_REQUESTS.value()
+                + ",\"error\":\"Too Many Requests\",\"path\":\"" + escapeJson(request.getRequestURI()) + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
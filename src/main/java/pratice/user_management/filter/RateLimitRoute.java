@@ -0,0 +1,67 @@
+package pratice.user_management.filter;
+
+/**
+ * 요청 수 제한 단위 (UserController 의 경로 + 메서드 묶음)
+ * 기본값은 클라이언트 하나 기준 "초당 요청 수,최대 버스트" 이고 user.rate-limit.{key} 로 바꿀 수 있다.
+ */
+public enum RateLimitRoute {
+    LIST("list", "50,100"),         // GET /api/users
+    GET("get", "200,400"),          // GET /api/users/{id}, /stats, /changes
+    SEARCH("search", "50,100"),     // GET /api/users/search, /fulltext
+    EXPORT("export", "0.1,2"),      // GET /api/users/export (전체 스캔)
+    CREATE("create", "20,40"),      // POST /api/users
+    BULK("bulk", "1,2"),            // POST /api/users/bulk
+    VERIFY("verify", "5,10"),       // POST /api/users/verify (bcrypt)
+    WRITE("write", "20,40");        // PUT, DELETE, 복구, 재색인
+
+    private final String key;
+    private final String defaultLimit;
+
+    RateLimitRoute(String key, String defaultLimit) {
+        this.key = key;
+        this.defaultLimit = defaultLimit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    /**
+     * /api/users 뒤의 경로와 메서드로 찾기 (제한 대상이 아니면 null)
+     */
+    static RateLimitRoute resolve(String method, String path) {
+        boolean root = path.isEmpty() || path.equals("/");
+        switch (method) {
+            case "GET", "HEAD" -> {
+                if (root) {
+                    return LIST;
+                }
+                return switch (path) {
+                    case "/export" -> EXPORT;
+                    case "/search", "/fulltext" -> SEARCH;
+                    default -> GET;
+                };
+            }
+            case "POST" -> {
+                if (root) {
+                    return CREATE;
+                }
+                return switch (path) {
+                    case "/bulk" -> BULK;
+                    case "/verify" -> VERIFY;
+                    default -> WRITE;
+                };
+            }
+            case "PUT", "PATCH", "DELETE" -> {
+                return WRITE;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+}
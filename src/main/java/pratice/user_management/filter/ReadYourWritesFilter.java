@@ -0,0 +1,82 @@
+package pratice.user_management.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import pratice.user_management.config.ReadWriteRoutingDataSource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * read-your-writes: /api/users 에 쓰기 요청을 보낸 클라이언트의 읽기는 read-your-writes-ms 동안 primary 로 보낸다.
+ * 방금 쓴 내용이 replica 에 복제되기 전에 다시 읽어서 옛 값을 보는 일을 막는다.
+ * 클라이언트 구분은 요청 수 제한과 같다 (IP, user.rate-limit.client-header 를 설정했으면 그 헤더 값).
+ * 기록은 이 인스턴스 메모리에만 있으므로, 인스턴스가 여럿이면 로드밸런서에서 같은 클라이언트를 같은 인스턴스로 보내야 한다.
+ */
+@Component
+@Profile("!reactive")   // 서블릿 필터라 WebFlux 에는 걸리지 않음
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "user.datasource.replica-urls")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final String PREFIX = "/api/users";
+
+    private final String clientHeader;
+    private final long windowMs;
+    private final Cache<String, Boolean> recentWriters;
+    private final Counter pinned;
+
+    public ReadYourWritesFilter(MeterRegistry meterRegistry,
+                                @Value("${user.rate-limit.client-header:}") String clientHeader,
+                                @Value("${user.datasource.read-your-writes-ms:2000}") long windowMs,
+                                @Value("${user.rate-limit.max-clients:100000}") long maxClients) {
+        this.clientHeader = clientHeader;
+        this.windowMs = windowMs;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterWrite(Duration.ofMillis(Math.max(windowMs, 1)))
+                .build();
+        this.pinned = meterRegistry.counter("user.datasource.read_your_writes");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return windowMs <= 0 || !request.getRequestURI().startsWith(PREFIX, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = RateLimitFilter.clientKey(request, clientHeader);
+        String method = request.getMethod();
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+            return;
+        }
+
+        if (recentWriters.getIfPresent(client) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        pinned.increment();
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+            chain.doFilter(request, response);
+        }
+    }
+}
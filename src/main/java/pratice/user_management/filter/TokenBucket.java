@@ -0,0 +1,46 @@
+package pratice.user_management.filter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 클라이언트 하나 x 경로 하나의 토큰 버킷 (GCRA)
+ * 토큰 수 대신 "다음 요청이 허용되는 이론적 시각(tat)" 하나만 두고 CAS 로 갱신하므로 잠금이 없고 버킷당 long 하나다.
+ * 요청 간격 interval, 허용 오차 tolerance = interval x (burst - 1) 이면 초당 rate 개, 최대 burst 개까지 몰아서 허용된다.
+ */
+final class TokenBucket {
+    private static final VarHandle TAT;
+
+    static {
+        try {
+            TAT = MethodHandles.lookup().findVarHandle(TokenBucket.class, "tat", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long tat;
+
+    TokenBucket(long nowNanos) {
+        this.tat = nowNanos;
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long current = tat;
+            long wait = current - toleranceNanos - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            long next = (current - nowNanos > 0 ? current : nowNanos) + intervalNanos;
+            if (TAT.compareAndSet(this, current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package pratice.user_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제 표시된 사용자 보관 (users -> users_archive) / 보관 기록 삭제 (JDBC)
+ * 호출 하나가 limit 개만 다루는 짧은 트랜잭션이라 행 잠금과 복제 지연이 한 번에 길어지지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserArchiveRepository {
+    private static final String COLUMNS = "id, email, password, username, phone, created_at, updated_at, version, deleted_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * before 보다 먼저 삭제 표시된 사용자를 오래된 순으로 최대 limit 명 users_archive 로 옮김
+     * 옮길 행을 먼저 잠그므로 그 사이 복구(restore)된 사용자는 옮기지 않는다.
+     *
+     * @return 옮긴 행 수
+     */
+    @Transactional
+    public int archiveDeletedBefore(LocalDateTime before, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE deleted_at < ? ORDER BY deleted_at LIMIT ? FOR UPDATE",
+                Long.class, Timestamp.valueOf(before), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(ids);
+        jdbcTemplate.update("INSERT INTO users_archive (" + COLUMNS + ", archived_at) SELECT " + COLUMNS + ", ? FROM users " +
+                "WHERE id IN (" + in + ") AND deleted_at IS NOT NULL", args.toArray());
+        return jdbcTemplate.update("DELETE FROM users WHERE id IN (" + in + ") AND deleted_at IS NOT NULL", ids.toArray());
+    }
+
+    /**
+     * before 보다 먼저 보관된 기록을 최대 limit 개 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    public int purgeArchivedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM users_archive WHERE archived_at < ? LIMIT ?", Timestamp.valueOf(before), limit);
+    }
+}
@@ -0,0 +1,93 @@
+package pratice.user_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pratice.user_management.domain.dto.UserCreateDTO;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC 를 직접 사용하는 쓰기 전용 리포지토리
+ * - 대량 등록: User.id 가 IDENTITY 전략이라 Hibernate insert 배치가 꺼지므로 JDBC 배치로 직접 넣는다.
+ * - 수정: 엔티티를 읽지 않고 바뀐 컬럼만 UPDATE 한 번으로 반영한다.
+ * SQL 을 직접 쓰므로 User 의 @SQLRestriction 이 붙지 않는다 -> 활성 사용자만 다룰 때는 deleted_at IS NULL 을 직접 건다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, password, username, phone, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 번의 배치(왕복)로 저장, 하나라도 실패하면 전체 롤백
+     */
+    @Transactional
+    public void insertAll(List<UserCreateDTO> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getUsername());
+            ps.setString(4, user.getPhone());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * null 이 아닌 필드만 UPDATE 하고 version 을 1 올린다.
+     * expectedVersion 이 있으면 그 버전일 때만 반영 (낙관적 락)
+     *
+     * @return 반영된 행 수 (0 이면 없는(삭제된) id 이거나 버전 충돌)
+     */
+    public int updateChangedFields(long id, Long expectedVersion, UserCreateDTO changes) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET ");
+        List<Object> args = new ArrayList<>(8);
+        appendIfPresent(sql, args, "email", changes.getEmail());
+        appendIfPresent(sql, args, "password", changes.getPassword());
+        appendIfPresent(sql, args, "username", changes.getUsername());
+        appendIfPresent(sql, args, "phone", changes.getPhone());
+        sql.append("updated_at = ?, version = version + 1 WHERE id = ? AND deleted_at IS NULL");
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 저장된 해시가 oldHash 그대로일 때만 newHash 로 교체 (cost 변경에 따른 재해시, version 은 그대로)
+     *
+     * @return 반영된 행 수 (0 이면 그 사이 비밀번호가 바뀜)
+     */
+    public int updatePasswordHash(String email, String oldHash, String newHash) {
+        return jdbcTemplate.update("UPDATE users SET password = ? WHERE email = ? AND password = ? AND deleted_at IS NULL",
+                newHash, email, oldHash);
+    }
+
+    /**
+     * 삭제 표시 취소 (아직 보관되지 않은 사용자만), version 을 1 올린다.
+     *
+     * @return 반영된 행 수 (0 이면 없는 id 이거나 삭제 표시되지 않았거나 이미 보관됨)
+     */
+    public int restore(long id) {
+        return jdbcTemplate.update("UPDATE users SET deleted_at = NULL, updated_at = ?, version = version + 1 " +
+                "WHERE id = ? AND deleted_at IS NOT NULL", Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    private void appendIfPresent(StringBuilder sql, List<Object> args, String column, String value) {
+        if (value != null) {
+            sql.append(column).append(" = ?, ");
+            args.add(value);
+        }
+    }
+}
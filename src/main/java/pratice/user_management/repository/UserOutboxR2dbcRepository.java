@@ -0,0 +1,38 @@
+package pratice.user_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pratice.user_management.event.UserChangedEvent;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * reactive 프로필의 user_outbox 쓰기 (R2DBC, UserOutboxRepository.append 와 같은 행)
+ * ReactiveUserService 의 트랜잭션(TransactionalOperator) 안에서 호출되어 users 변경과 함께 커밋/롤백된다.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class UserOutboxR2dbcRepository {
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> append(UserChangedEvent event) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "INSERT INTO user_outbox (type, user_id, email, username, phone, created_at) " +
+                                "VALUES (:type, :userId, :email, :username, :phone, :createdAt)")
+                .bind("type", event.getType().name())
+                .bind("userId", event.getId())
+                .bind("createdAt", LocalDateTime.now());
+        spec = bindNullable(spec, "email", event.getEmail());
+        spec = bindNullable(spec, "username", event.getUsername());
+        spec = bindNullable(spec, "phone", event.getPhone());
+        return spec.fetch().rowsUpdated().then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, String.class);
+    }
+}
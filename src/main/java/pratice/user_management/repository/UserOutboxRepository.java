@@ -0,0 +1,95 @@
+package pratice.user_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import pratice.user_management.domain.dto.UserChangeDTO;
+import pratice.user_management.event.UserChangedEvent;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * user_outbox 접근 (JDBC)
+ * 쓰기는 UserService 의 트랜잭션 안에서 호출되어 users 변경과 함께 커밋/롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserOutboxRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO user_outbox (type, user_id, email, username, phone, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String COLUMNS = "seq, type, user_id, email, username, phone, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(UserChangedEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getType().name(), event.getId(), event.getEmail(), event.getUsername(),
+                event.getPhone(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 한 번의 배치(왕복)로 기록
+     */
+    public void appendAll(List<UserChangedEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getType().name());
+            ps.setLong(2, event.getId());
+            ps.setString(3, event.getEmail());
+            ps.setString(4, event.getUsername());
+            ps.setString(5, event.getPhone());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * seq 구간 (after, to] 를 seq 순서로 limit 개
+     */
+    public List<UserChangeDTO> findAfter(long after, long to, int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM user_outbox WHERE seq > ? AND seq <= ? ORDER BY seq ASC LIMIT ?",
+                UserOutboxRepository::toChange, after, to, limit);
+    }
+
+    /**
+     * 주어진 seq 들 중 지금 있는 기록 (seq 순서)
+     */
+    public List<UserChangeDTO> findBySeqs(Collection<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return List.of();
+        }
+        String in = String.join(", ", Collections.nCopies(seqs.size(), "?"));
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM user_outbox WHERE seq IN (" + in + ") ORDER BY seq ASC",
+                UserOutboxRepository::toChange, seqs.toArray());
+    }
+
+    // 가장 큰 seq (없으면 0)
+    public long findMaxSeq() {
+        Long seq = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM user_outbox", Long.class);
+        return seq == null ? 0 : seq;
+    }
+
+    // 남아 있는 가장 작은 seq (없으면 0)
+    public long findMinSeq() {
+        Long seq = jdbcTemplate.queryForObject("SELECT MIN(seq) FROM user_outbox", Long.class);
+        return seq == null ? 0 : seq;
+    }
+
+    /**
+     * before 보다 오래된 기록을 최대 limit 개 삭제 (잠금을 짧게 잡도록 나눠서)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteOlderThan(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM user_outbox WHERE created_at < ? LIMIT ?", Timestamp.valueOf(before), limit);
+    }
+
+    private static UserChangeDTO toChange(ResultSet rs, int rowNum) throws SQLException {
+        return new UserChangeDTO(rs.getLong("seq"), rs.getString("type"), rs.getLong("user_id"), rs.getString("email"),
+                rs.getString("username"), rs.getString("phone"), rs.getTimestamp("created_at").toLocalDateTime());
+    }
+}
@@ -0,0 +1,206 @@
+package pratice.user_management.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserRowDTO;
+import pratice.user_management.domain.dto.UserVersionDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * reactive 프로필의 users 테이블 접근 (R2DBC, 논블로킹)
+ * UserRepository / UserJdbcRepository 와 같은 스키마, 같은 쿼리를 SQL 로 직접 쓴다.
+ * 사용자 조회/수정은 삭제 표시(deleted_at)가 없는 행만, 이메일 중복 확인은 삭제 표시된 행까지 본다.
+ * 여러 행을 읽는 메서드는 구독자가 요청한 만큼씩 행을 흘려보낸다 (backpressure).
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class UserR2dbcRepository {
+    private static final String ROW_COLUMNS = "id, email, username, phone, created_at, version, updated_at";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserRowDTO> findRowById(long id) {
+        return databaseClient.sql("SELECT " + ROW_COLUMNS + " FROM users WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(UserR2dbcRepository::toRow)
+                .one();
+    }
+
+    // 키셋 페이징 (id > after 인 행을 id 순으로 limit 개)
+    public Flux<UserRowDTO> findRowsAfter(long after, int limit) {
+        return databaseClient.sql("SELECT " + ROW_COLUMNS + " FROM users WHERE deleted_at IS NULL AND id > :after ORDER BY id ASC LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(UserR2dbcRepository::toRow)
+                .all();
+    }
+
+    public Mono<UserVersionDTO> findVersionById(long id) {
+        return databaseClient.sql("SELECT id, version, updated_at FROM users WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(UserR2dbcRepository::toVersion)
+                .one();
+    }
+
+    public Flux<UserVersionDTO> findVersionsAfter(long after, int limit) {
+        return databaseClient.sql("SELECT id, version, updated_at FROM users WHERE deleted_at IS NULL AND id > :after ORDER BY id ASC LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(UserR2dbcRepository::toVersion)
+                .all();
+    }
+
+    // 전체 행 (내보내기용)
+    public Flux<UserRowDTO> findAllRows() {
+        return databaseClient.sql("SELECT " + ROW_COLUMNS + " FROM users WHERE deleted_at IS NULL ORDER BY id ASC")
+                .map(UserR2dbcRepository::toRow)
+                .all();
+    }
+
+    public Mono<Boolean> existsById(long id) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> existsByEmailAndIdNot(String email, long id) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE email = :email AND id <> :id")
+                .bind("email", email)
+                .bind("id", id)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    // 이메일 변경 여부 확인용 (UserRepository.findEmailById 와 같음)
+    public Mono<String> findEmailById(long id) {
+        return databaseClient.sql("SELECT email FROM users WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(row -> row.get("email", String.class))
+                .first();
+    }
+
+    // 비밀번호 확인용 (저장된 해시만 조회, UserRepository.findPasswordByEmail 과 같음)
+    public Mono<String> findPasswordByEmail(String email) {
+        return databaseClient.sql("SELECT password FROM users WHERE email = :email AND deleted_at IS NULL")
+                .bind("email", email)
+                .map(row -> row.get("password", String.class))
+                .first();
+    }
+
+    /**
+     * 저장된 해시가 oldHash 일 때만 newHash 로 교체 (UserJdbcRepository.updatePasswordHash 와 같음)
+     *
+     * @return 반영된 행 수 (0 이면 그 사이 비밀번호가 바뀜)
+     */
+    public Mono<Long> updatePasswordHash(String email, String oldHash, String newHash) {
+        return databaseClient.sql("UPDATE users SET password = :newHash WHERE email = :email AND password = :oldHash AND deleted_at IS NULL")
+                .bind("newHash", newHash)
+                .bind("email", email)
+                .bind("oldHash", oldHash)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * 저장 후 생성된 id 반환 (password 는 이미 해시된 값)
+     */
+    public Mono<Long> insert(UserCreateDTO user) {
+        LocalDateTime now = LocalDateTime.now();
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "INSERT INTO users (email, password, username, phone, created_at, updated_at) " +
+                                "VALUES (:email, :password, :username, :phone, :createdAt, :updatedAt)")
+                .bind("email", user.getEmail())
+                .bind("password", user.getPassword())
+                .bind("createdAt", now)
+                .bind("updatedAt", now);
+        spec = bindNullable(spec, "username", user.getUsername());
+        spec = bindNullable(spec, "phone", user.getPhone());
+        return spec.filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /**
+     * null 이 아닌 필드만 UPDATE 하고 version 을 1 올린다. (UserJdbcRepository.updateChangedFields 와 같음)
+     *
+     * @return 반영된 행 수 (0 이면 없는 id 이거나 버전 충돌)
+     */
+    public Mono<Long> updateChangedFields(long id, Long expectedVersion, UserCreateDTO changes) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET ");
+        appendIfPresent(sql, "email", changes.getEmail());
+        appendIfPresent(sql, "password", changes.getPassword());
+        appendIfPresent(sql, "username", changes.getUsername());
+        appendIfPresent(sql, "phone", changes.getPhone());
+        sql.append("updated_at = :updatedAt, version = version + 1 WHERE id = :id AND deleted_at IS NULL");
+        if (expectedVersion != null) {
+            sql.append(" AND version = :expectedVersion");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("updatedAt", LocalDateTime.now())
+                .bind("id", id);
+        spec = bindIfPresent(spec, "email", changes.getEmail());
+        spec = bindIfPresent(spec, "password", changes.getPassword());
+        spec = bindIfPresent(spec, "username", changes.getUsername());
+        spec = bindIfPresent(spec, "phone", changes.getPhone());
+        if (expectedVersion != null) {
+            spec = spec.bind("expectedVersion", expectedVersion);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    // 삭제 표시 (UserRepository.softDeleteById 와 같음)
+    public Mono<Long> deleteById(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("UPDATE users SET deleted_at = :now, updated_at = :now, version = version + 1 " +
+                        "WHERE id = :id AND deleted_at IS NULL")
+                .bind("now", now)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static void appendIfPresent(StringBuilder sql, String column, String value) {
+        if (value != null) {
+            sql.append(column).append(" = :").append(column).append(", ");
+        }
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindIfPresent(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value != null ? spec.bind(name, value) : spec;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, String.class);
+    }
+
+    private static UserRowDTO toRow(Readable row) {
+        return new UserRowDTO(row.get("id", Long.class), row.get("email", String.class), row.get("username", String.class),
+                row.get("phone", String.class), row.get("created_at", LocalDateTime.class),
+                row.get("version", Long.class), row.get("updated_at", LocalDateTime.class));
+    }
+
+    private static UserVersionDTO toVersion(Readable row) {
+        return new UserVersionDTO(row.get("id", Long.class), row.get("version", Long.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+}
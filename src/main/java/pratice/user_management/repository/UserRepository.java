@@ -1,14 +1,145 @@
 package pratice.user_management.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserRowDTO;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.domain.dto.UserSignupDTO;
+import pratice.user_management.domain.dto.UserVersionDTO;
 import pratice.user_management.domain.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    // 비밀번호가 존재하는지 확인
-    Optional<User> findByPassword(String password);
+    // 이메일로 조회
+    Optional<User> findByEmail(String email);
+
+    // 이메일이 존재하는지 확인 (email UNIQUE 인덱스만 확인, 엔티티 로딩 없음)
+    default boolean existsByEmail(String email) {
+        return countByEmailIncludingDeleted(email) > 0;
+    }
+
+    // 다른 사용자가 이미 쓰고 있는 이메일인지 확인 (수정 시 본인 제외)
+    default boolean existsByEmailAndIdNot(String email, long id) {
+        return countByEmailAndIdNotIncludingDeleted(email, id) > 0;
+    }
+
+    // 이메일 중복 확인은 삭제 표시된 사용자도 포함 (보관될 때까지 이메일을 잡아 둬야 복구할 수 있음) -> @SQLRestriction 이 붙지 않는 네이티브 쿼리
+    @Query(value = "SELECT COUNT(*) FROM users WHERE email = :email", nativeQuery = true)
+    long countByEmailIncludingDeleted(@Param("email") String email);
+
+    @Query(value = "SELECT COUNT(*) FROM users WHERE email = :email AND id <> :id", nativeQuery = true)
+    long countByEmailAndIdNotIncludingDeleted(@Param("email") String email, @Param("id") long id);
+
+    // 단일 조회를 DTO 로 바로 (엔티티/영속성 컨텍스트를 거치지 않고 필요한 컬럼만 SELECT)
+    @Query("SELECT new pratice.user_management.domain.dto.UserDTO(u.email, u.username, u.phone, u.createdAt, u.version, u.updatedAt) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserDTO> findDtoById(@Param("id") long id);
+
+    // id 기준 커서 페이징 (PK 인덱스 순서대로 after 다음부터 limit 개, OFFSET/count 없음)
+    @Query("SELECT new pratice.user_management.domain.dto.UserRowDTO(u.id, u.email, u.username, u.phone, u.createdAt, u.version, u.updatedAt) " +
+            "FROM User u WHERE u.id > :after ORDER BY u.id ASC")
+    List<UserRowDTO> findRowsAfter(@Param("after") long after, Limit limit);
+
+    // 버전/수정 시각만 조회 (조건부 GET 확인용, 본문 컬럼은 읽지 않음)
+    @Query("SELECT new pratice.user_management.domain.dto.UserVersionDTO(u.id, u.version, u.updatedAt) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserVersionDTO> findVersionById(@Param("id") long id);
+
+    // 페이지의 버전/수정 시각만 조회 (findRowsAfter 와 같은 범위)
+    @Query("SELECT new pratice.user_management.domain.dto.UserVersionDTO(u.id, u.version, u.updatedAt) " +
+            "FROM User u WHERE u.id > :after ORDER BY u.id ASC")
+    List<UserVersionDTO> findVersionsAfter(@Param("after") long after, Limit limit);
+
+    // 전체 사용자 스트리밍 조회 (트랜잭션 안에서만 사용, 다 쓰면 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new pratice.user_management.domain.dto.UserDTO(u.email, u.username, u.phone, u.createdAt, u.version, u.updatedAt) FROM User u")
+    Stream<UserDTO> streamAllDtos();
+
+    // 전체 이메일만 스트리밍 조회 (Bloom filter 구성용, 트랜잭션 안에서만 사용, 삭제 표시된 사용자 포함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT email FROM users", nativeQuery = true)
+    Stream<String> streamAllEmails();
+
+    // 검색 인덱스 구성용 스트리밍 조회 (트랜잭션 안에서만 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new pratice.user_management.domain.dto.UserSearchHitDTO(u.id, u.email, u.username, u.phone) FROM User u")
+    Stream<UserSearchHitDTO> streamAllSearchHits();
+
+    // 이메일 목록으로 id/이름 조회 (대량 등록 후 생성된 id 확인용)
+    @Query("SELECT new pratice.user_management.domain.dto.UserSearchHitDTO(u.id, u.email, u.username, u.phone) " +
+            "FROM User u WHERE u.email IN :emails")
+    List<UserSearchHitDTO> findSearchHitsByEmailIn(@Param("emails") Collection<String> emails);
+
+    // id 구간 (after, to] 를 id 순서로 limit 개씩 조회 (전문 검색 재색인용)
+    @Query("SELECT new pratice.user_management.domain.dto.UserSearchHitDTO(u.id, u.email, u.username, u.phone) " +
+            "FROM User u WHERE u.id > :after AND u.id <= :to ORDER BY u.id ASC")
+    List<UserSearchHitDTO> findSearchHitsInRange(@Param("after") long after, @Param("to") long to, Limit limit);
+
+    // 통계 집계용 (id 구간별로 나눠 병렬로 스트리밍)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new pratice.user_management.domain.dto.UserSignupDTO(u.id, u.email, u.createdAt) " +
+            "FROM User u WHERE u.id > :after AND u.id <= :to")
+    Stream<UserSignupDTO> streamSignupsInRange(@Param("after") long after, @Param("to") long to);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 가장 큰 id (없으면 0)
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    // 이메일 변경 여부 확인용 (수정 전 이메일만 조회)
+    @Query("SELECT u.email FROM User u WHERE u.id = :id")
+    Optional<String> findEmailById(@Param("id") Long id);
+
+    // 비밀번호 확인용 (저장된 해시만 조회)
+    @Query("SELECT u.password FROM User u WHERE u.email = :email")
+    Optional<String> findPasswordByEmail(@Param("email") String email);
+
+    // 주어진 이메일 중 이미 등록된 것만 한 번에 조회 (email UNIQUE 인덱스 사용, 삭제 표시된 사용자 포함)
+    @Query(value = "SELECT email FROM users WHERE email IN (:emails)", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 삭제 표시 (SELECT 없이 UPDATE 한 번), 표시된 행 수 반환 (이미 삭제 표시된 id 는 0)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.deletedAt = :now, u.updatedAt = :now, u.version = u.version + 1 " +
+            "WHERE u.id = :id AND u.deletedAt IS NULL")
+    int softDeleteById(@Param("id") long id, @Param("now") LocalDateTime now);
+
+    // id 목록 삭제 표시, 표시된 행 수 반환
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.deletedAt = :now, u.updatedAt = :now, u.version = u.version + 1 " +
+            "WHERE u.id IN :ids AND u.deletedAt IS NULL")
+    int softDeleteAllById(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 
 }
 
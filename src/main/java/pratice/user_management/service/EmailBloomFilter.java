@@ -0,0 +1,217 @@
+package pratice.user_management.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pratice.user_management.config.ReadWriteRoutingDataSource;
+import pratice.user_management.repository.UserRepository;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 등록된 이메일의 Bloom filter
+ * mightContain 이 false 면 DB에 없는 이메일이 확실하므로 중복 검사 쿼리를 생략할 수 있다.
+ * 비트를 지울 수는 없으므로 삭제는 오탐으로만 남고, 삭제가 충분히 쌓이면 DB에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+    private final UserRepository repository;
+    private final TransactionTemplate readOnlyTx;
+    private final long expectedInsertions;
+    private final int numBits;
+    private final int numHashes;
+
+    private volatile AtomicLongArray bits;
+    private volatile AtomicLongArray building;     // 재구성 중일 때만 not null
+    private volatile boolean ready;                 // 최초 구성 전에는 항상 true 반환
+    private final AtomicLong approximateElements = new AtomicLong();
+    private final AtomicLong staleRemovals = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final Counter checks;
+    private final Counter skippedLookups;
+    private final Counter falsePositives;
+
+    public EmailBloomFilter(UserRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${user.email-filter.fpp:0.01}") double fpp,
+                            @Value("${user.email-filter.max-memory-mb:16}") int maxMemoryMb) {
+        this.repository = repository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+
+        // 최적 비트 수 m = -n ln p / (ln 2)^2 (메모리 예산을 넘으면 예산에 맞춤)
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        long budgetBits = (long) maxMemoryMb * 1024 * 1024 * 8;
+        long m = Math.max(64, Math.min(optimalBits, Math.min(budgetBits, (long) Integer.MAX_VALUE - 63)));
+        this.numBits = (int) ((m + 63) / 64 * 64);
+        // 최적 해시 수 k = m/n ln 2
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray(numBits / 64);
+
+        this.checks = meterRegistry.counter("user.email_filter.checks");
+        this.skippedLookups = meterRegistry.counter("user.email_filter.skipped_lookups");
+        this.falsePositives = meterRegistry.counter("user.email_filter.false_positives");
+        Gauge.builder("user.email_filter.memory_bytes", this, f -> f.numBits / 8.0).register(meterRegistry);
+        Gauge.builder("user.email_filter.elements", approximateElements, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("user.email_filter.expected_fpp", this, EmailBloomFilter::expectedFpp).register(meterRegistry);
+    }
+
+    /**
+     * 시작 후 백그라운드에서 DB 이메일로 필터 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuildAsync();
+    }
+
+    /**
+     * 등록되어 있을 가능성이 있으면 true (false 는 확실히 없음)
+     */
+    public boolean mightContain(String email) {
+        checks.increment();
+        if (!ready || email == null) {
+            return true;
+        }
+        boolean result = test(bits, email);
+        if (!result) {
+            skippedLookups.increment();
+        }
+        return result;
+    }
+
+    /**
+     * mightContain 이 true 였지만 DB에는 없었던 경우 호출 (오탐 측정용)
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 새로 등록(또는 변경)된 이메일 추가
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        set(bits, email);
+        AtomicLongArray next = building;
+        if (next != null) {
+            set(next, email);
+        }
+        approximateElements.incrementAndGet();
+    }
+
+    /**
+     * 삭제된 이메일 수 기록, 원소의 10% 이상 쌓이면 재구성
+     */
+    public void recordRemovals(int count) {
+        long removed = staleRemovals.addAndGet(count);
+        if (removed > Math.max(1000, approximateElements.get() / 10)) {
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * 현재 원소 수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+     */
+    public double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) numHashes * approximateElements.get() / numBits), numHashes);
+    }
+
+    private void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "email-filter-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void rebuild() {
+        // 복제 지연으로 빠진 이메일은 중복 검사를 건너뛰게 만들므로 primary 에서 읽는다
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+            AtomicLongArray next = new AtomicLongArray(numBits / 64);
+            building = next;    // 재구성 중에 들어오는 put 도 새 필터에 반영
+            AtomicLong count = new AtomicLong();
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<String> emails = repository.streamAllEmails()) {
+                    emails.forEach(email -> {
+                        set(next, email);
+                        count.incrementAndGet();
+                    });
+                }
+            });
+            bits = next;
+            approximateElements.set(count.get());
+            staleRemovals.set(0);
+            ready = true;
+            if (count.get() > expectedInsertions) {
+                log.warn("email bloom filter holds {} emails, above expected-insertions {}", count.get(), expectedInsertions);
+            }
+            log.info("email bloom filter built: {} emails, {} KiB, k={}", count.get(), numBits / 8 / 1024, numHashes);
+        } catch (RuntimeException e) {
+            log.warn("email bloom filter build failed, falling back to DB checks", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private boolean test(AtomicLongArray target, String email) {
+        long h1 = hash(email);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+            if ((target.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void set(AtomicLongArray target, String email) {
+        long h1 = hash(email);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+            long mask = 1L << bit;
+            target.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+        }
+    }
+
+    // users.email 은 대소문자 구분 없는 collation 이므로 소문자로 맞춰서 해시 (FNV-1a 64 + fmix64)
+    private static long hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            h ^= normalized.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,150 @@
+package pratice.user_management.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import pratice.user_management.exception.ServiceBusyException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 (bcrypt)
+ * 해시 한 번에 수십~수백 ms 의 CPU 를 쓰므로 요청 스레드가 아니라 코어 수만큼의 전용 풀에서 계산하고,
+ * 대기열이 꽉 차면 기다리지 않고 바로 ServiceBusyException(503) 을 던진다.
+ * cost 는 시작할 때 target-ms 에 맞춰 정하고, cost 가 다른 기존 해시는 비밀번호 확인에 성공할 때 다시 해시한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+    private final ThreadPoolExecutor pool;
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+
+    public PasswordHasher(@Value("${user.password.pool-size:0}") int poolSize,
+                          @Value("${user.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${user.password.target-ms:100}") long targetMillis,
+                          @Value("${user.password.min-cost:10}") int minCost,
+                          @Value("${user.password.max-cost:14}") int maxCost) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.cost = calibrate(targetMillis, minCost, maxCost);
+        this.encoder = new BCryptPasswordEncoder(cost);
+        log.info("password hashing: bcrypt cost={} (target {}ms), {} threads, queue {}", cost, targetMillis, threads, queueCapacity);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * 해시 (전용 풀에서 계산)
+     */
+    public String hash(String rawPassword) {
+        return await(submit(() -> encoder.encode(rawPassword)));
+    }
+
+    /**
+     * 여러 개를 풀 크기만큼씩 나눠 병렬로 해시 (대량 등록용)
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        int batch = pool.getMaximumPoolSize();
+        for (int from = 0; from < rawPasswords.size(); from += batch) {
+            List<Future<String>> futures = new ArrayList<>(batch);
+            for (String raw : rawPasswords.subList(from, Math.min(from + batch, rawPasswords.size()))) {
+                futures.add(submit(() -> encoder.encode(raw)));
+            }
+            futures.forEach(future -> hashes.add(await(future)));
+        }
+        return hashes;
+    }
+
+    /**
+     * 비밀번호 확인 (bcrypt 가 아닌 예전 평문 값도 상수 시간 비교로 확인)
+     */
+    public boolean matches(String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return false;
+        }
+        if (!isBcrypt(stored)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        return await(submit(() -> encoder.matches(rawPassword, stored)));
+    }
+
+    /**
+     * 평문이거나 현재 cost 와 다른 해시면 다시 해시해야 함
+     */
+    public boolean needsRehash(String stored) {
+        return !isBcrypt(stored) || Integer.parseInt(stored.substring(4, 6)) != cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return pool.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Password hashing queue is full");
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static boolean isBcrypt(String stored) {
+        return stored.length() == 60 && stored.matches("^\\$2[aby]\\$\\d\\d\\$.*");
+    }
+
+    /**
+     * target-ms 를 넘지 않는 가장 큰 cost 선택 (cost 가 1 오르면 시간은 약 2배)
+     */
+    private static int calibrate(long targetMillis, int minCost, int maxCost) {
+        int cost = minCost;
+        new BCryptPasswordEncoder(cost).encode("warm-up");
+        long elapsed = measure(cost);
+        while (cost < maxCost && elapsed * 2 <= targetMillis) {
+            cost++;
+            elapsed = measure(cost);
+        }
+        return cost;
+    }
+
+    private static long measure(int cost) {
+        long start = System.nanoTime();
+        new BCryptPasswordEncoder(cost).encode("calibration");
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
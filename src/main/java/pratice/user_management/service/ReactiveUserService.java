@@ -0,0 +1,256 @@
+package pratice.user_management.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.domain.dto.UserRowDTO;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.domain.dto.UserStatsDTO;
+import pratice.user_management.domain.dto.UserVersionDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.exception.UserNotFoundException;
+import pratice.user_management.exception.VersionConflictException;
+import pratice.user_management.repository.UserOutboxR2dbcRepository;
+import pratice.user_management.repository.UserR2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * reactive 프로필의 사용자 서비스 (UserService 와 같은 규칙, R2DBC 로 논블로킹)
+ * 블로킹이 남는 곳(비밀번호 해시, 인덱스 갱신 이벤트)은 boundedElastic 으로 넘겨 이벤트 루프를 막지 않는다.
+ * 쓰기는 UserService 처럼 user_outbox 에도 같은 트랜잭션으로 기록하므로, 다른 인스턴스의 변경 피드(poll-ms)가 이 변경을 전달한다.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserService {
+    public static final int MAX_STREAM_SIZE = 100_000;
+    private static final int STREAM_PREFETCH = 256;
+
+    private final UserR2dbcRepository repository;
+    private final UserOutboxR2dbcRepository outbox;
+    private final EmailBloomFilter emailFilter;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher events;
+    private final TransactionalOperator transactionalOperator;
+    private final UserService userService;  // 인메모리 인덱스 / 통계 조회만 (DB 쓰기는 하지 않음)
+
+    /**
+     * 사용자 목록 조회 (커서 페이징, 응답 모양은 UserService.getAllUsers 와 같음)
+     */
+    public Mono<UserPageDTO> getAllUsers(String after, int limit) {
+        return Mono.defer(() -> {
+            UserPaging.validateLimit(limit, UserService.MAX_PAGE_SIZE);
+            return repository.findRowsAfter(UserPaging.decodeCursor(after), limit + 1).collectList();
+        }).map(rows -> {
+            ResourceTagDTO tag = UserPaging.pageTag(rows, UserRowDTO::getId, UserRowDTO::getVersion, UserRowDTO::getUpdatedAt);
+            boolean hasNext = rows.size() > limit;
+            List<UserRowDTO> page = hasNext ? rows.subList(0, limit) : rows;
+            String nextCursor = hasNext ? UserPaging.encodeCursor(page.get(page.size() - 1).getId()) : null;
+            return new UserPageDTO(page.stream().map(UserRowDTO::toUserDTO).toList(), nextCursor, tag);
+        });
+    }
+
+    public Mono<ResourceTagDTO> getPageTag(String after, int limit) {
+        return Mono.defer(() -> {
+            UserPaging.validateLimit(limit, UserService.MAX_PAGE_SIZE);
+            return repository.findVersionsAfter(UserPaging.decodeCursor(after), limit + 1).collectList();
+        }).map(versions -> UserPaging.pageTag(versions, UserVersionDTO::getId, UserVersionDTO::getVersion, UserVersionDTO::getUpdatedAt));
+    }
+
+    /**
+     * 사용자 목록을 모으지 않고 한 건씩 흘려보냄 (NDJSON 목록용)
+     * 클라이언트가 읽는 속도만큼만 DB 에서 가져오므로 limit 이 커도 메모리가 일정하다.
+     */
+    public Flux<UserDTO> streamUsers(String after, int limit) {
+        return Flux.defer(() -> {
+            UserPaging.validateLimit(limit, MAX_STREAM_SIZE);
+            return repository.findRowsAfter(UserPaging.decodeCursor(after), limit);
+        }).limitRate(STREAM_PREFETCH).map(UserRowDTO::toUserDTO);
+    }
+
+    /**
+     * 전체 사용자 내보내기 (NDJSON)
+     */
+    public Flux<UserDTO> exportUsers() {
+        return repository.findAllRows().limitRate(STREAM_PREFETCH).map(UserRowDTO::toUserDTO);
+    }
+
+    public Mono<UserDTO> getUser(Long id) {
+        return repository.findRowById(id)
+                .map(UserRowDTO::toUserDTO)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found")));
+    }
+
+    public Mono<ResourceTagDTO> getUserTag(Long id) {
+        return repository.findVersionById(id)
+                .map(version -> ResourceTagDTO.ofUser(version.getVersion(), version.getUpdatedAt()))
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found")));
+    }
+
+    /**
+     * 회원가입 (중복 검사 -> 해시 -> 저장, outbox 기록과 같은 트랜잭션)
+     */
+    public Mono<Void> createUser(UserCreateDTO userCreateDTO) {
+        String email = userCreateDTO.getEmail();
+        if (email == null || email.isBlank()) {
+            return Mono.error(new IllegalArgumentException("이메일이 필요합니다."));
+        }
+        if (userCreateDTO.getPassword() == null || userCreateDTO.getPassword().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("비밀번호가 필요합니다."));
+        }
+
+        Mono<Boolean> duplicate = emailFilter.mightContain(email) ? repository.existsByEmail(email) : Mono.just(false);
+        return duplicate
+                .flatMap(exists -> exists
+                        ? Mono.<String>error(new IllegalArgumentException("이미 존재하는 이메일 입니다."))
+                        : hash(userCreateDTO.getPassword()))
+                .flatMap(hash -> transactionalOperator.transactional(repository.insert(userCreateDTO.withPassword(hash))
+                        .map(id -> UserChangedEvent.created(id, email, userCreateDTO.getUsername(), userCreateDTO.getPhone()))
+                        .flatMap(event -> outbox.append(event).thenReturn(event))))
+                .onErrorMap(DataIntegrityViolationException.class, e -> new IllegalArgumentException("이미 존재하는 이메일 입니다."))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(event -> {
+                    emailFilter.put(email);
+                    events.publishEvent(event);
+                })
+                .then();
+    }
+
+    /**
+     * 특정 사용자 정보 수정 (바뀐 컬럼만 UPDATE, expectedVersion 이 다르면 409, outbox 기록과 같은 트랜잭션)
+     * 비밀번호는 null 이면 그대로 두고, 빈 값이면 400
+     */
+    public Mono<UserDTO> updateUser(Long id, Long expectedVersion, UserCreateDTO userCreateDTO) {
+        if (userCreateDTO.getPassword() != null && userCreateDTO.getPassword().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("비밀번호가 필요합니다."));
+        }
+        Mono<UserCreateDTO> changes = userCreateDTO.getPassword() == null ? Mono.just(userCreateDTO)
+                : hash(userCreateDTO.getPassword()).map(userCreateDTO::withPassword);
+        String email = userCreateDTO.getEmail();
+
+        return changes.flatMap(dto -> {
+                    // 이메일이 바뀌면 옛 이메일은 Bloom filter 에 남으므로 삭제와 같이 센다
+                    Mono<Boolean> emailChanged = email == null ? Mono.just(false)
+                            : repository.findEmailById(id).map(previous -> !previous.equals(email)).defaultIfEmpty(false);
+                    Mono<Boolean> duplicate = email != null && emailFilter.mightContain(email)
+                            ? repository.existsByEmailAndIdNot(email, id) : Mono.just(false);
+                    Mono<UserRowDTO> update = duplicate
+                            .flatMap(exists -> exists
+                                    ? Mono.<Long>error(new IllegalArgumentException("이미 존재하는 이메일 입니다."))
+                                    : repository.updateChangedFields(id, expectedVersion, dto))
+                            .flatMap(updated -> updated > 0 ? repository.findRowById(id) : notUpdated(id, expectedVersion))
+                            .flatMap(row -> outbox.append(UserChangedEvent.updated(id, row.getEmail(), row.getUsername(), row.getPhone()))
+                                    .thenReturn(row));
+                    return transactionalOperator.transactional(emailChanged.flatMap(changed -> update.map(row -> Tuples.of(changed, row))));
+                })
+                .onErrorMap(DataIntegrityViolationException.class, e -> new IllegalArgumentException("이미 존재하는 이메일 입니다."))
+                .publishOn(Schedulers.boundedElastic())
+                .map(result -> {
+                    UserRowDTO row = result.getT2();
+                    emailFilter.put(email);
+                    if (result.getT1()) {
+                        emailFilter.recordRemovals(1);
+                    }
+                    events.publishEvent(UserChangedEvent.updated(id, row.getEmail(), row.getUsername(), row.getPhone()));
+                    return row.toUserDTO();
+                });
+    }
+
+    /**
+     * 삭제 표시 (outbox 기록과 같은 트랜잭션)
+     */
+    public Mono<Void> deleteUser(Long id) {
+        Mono<Long> delete = repository.deleteById(id)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.<Long>error(new UserNotFoundException("User not found"))
+                        : outbox.append(UserChangedEvent.deleted(id)).thenReturn(deleted));
+        return transactionalOperator.transactional(delete)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(deleted -> events.publishEvent(UserChangedEvent.deleted(id)))
+                .then();
+    }
+
+    /**
+     * 비밀번호 확인 (UserService.verifyPassword 와 같은 규칙, 필요하면 그 자리에서 다시 해시해 저장)
+     */
+    public Mono<Boolean> verifyPassword(String email, String rawPassword) {
+        if (email == null || rawPassword == null) {
+            return Mono.error(new IllegalArgumentException("이메일과 비밀번호가 필요합니다."));
+        }
+        return repository.findPasswordByEmail(email)
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(stored -> {
+                    if (!passwordHasher.matches(rawPassword, stored)) {
+                        return Mono.just(false);
+                    }
+                    if (!passwordHasher.needsRehash(stored)) {
+                        return Mono.just(true);
+                    }
+                    // 그 사이 비밀번호가 바뀌었으면 0 행 반영 (새 비밀번호 유지)
+                    return hash(rawPassword)
+                            .flatMap(rehashed -> repository.updatePasswordHash(email, stored, rehashed))
+                            .thenReturn(true);
+                })
+                // 없는 이메일도 해시 한 번만큼 시간을 써서 응답 시간으로 가입 여부가 드러나지 않게 한다
+                .switchIfEmpty(hash(rawPassword).thenReturn(false));
+    }
+
+    /**
+     * username / email 접두사 검색 (인메모리 인덱스, UserService 와 같은 인덱스)
+     */
+    public Mono<List<UserSearchHitDTO>> searchUsers(String query, int limit) {
+        return Mono.fromCallable(() -> userService.searchUsers(query, limit));
+    }
+
+    /**
+     * 전문 검색 (Lucene 인덱스 파일을 읽으므로 boundedElastic 에서)
+     */
+    public Mono<List<UserSearchHitDTO>> fullTextSearch(String query, int limit) {
+        return Mono.fromCallable(() -> userService.fullTextSearch(query, limit))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 전문 검색 인덱스 전체 재색인 시작 (이미 진행 중이면 false)
+     */
+    public Mono<Boolean> reindexFullText() {
+        return Mono.fromCallable(userService::reindexFullText);
+    }
+
+    /**
+     * 가입 통계 (인메모리 집계)
+     */
+    public Mono<UserStatsDTO> getStats(String granularity, LocalDate from, LocalDate to, int top) {
+        return Mono.fromCallable(() -> userService.getStats(granularity, from, to, top));
+    }
+
+    private Mono<UserRowDTO> notUpdated(Long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(new UserNotFoundException("User not found"));
+        }
+        return repository.existsById(id).flatMap(exists -> Mono.<UserRowDTO>error(exists
+                ? new VersionConflictException("User was modified by another request")
+                : new UserNotFoundException("User not found")));
+    }
+
+    /**
+     * 비밀번호 해시 (PasswordHasher 풀이 끝날 때까지 기다리는 동안 이벤트 루프를 막지 않도록)
+     */
+    private Mono<String> hash(String rawPassword) {
+        return Mono.fromCallable(() -> passwordHasher.hash(rawPassword))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,62 @@
+package pratice.user_management.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회 합치기 (single-flight)
+ * 먼저 온 요청 하나만 loader 를 실행하고, 그동안 같은 키로 들어온 요청은 그 결과(또는 같은 예외)를 함께 받는다.
+ * 끝나면 바로 잊으므로 캐시가 아니다 - 결과 보관은 캐시(@Cacheable)가 맡는다.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 진행 중인 조회를 잊음 (이후 요청은 loader 를 새로 실행하고, 이미 기다리던 요청은 원래 결과를 받는다)
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * 지금 진행 중인 키 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 먼저 실행한 요청이 던진 예외를 그대로 다시 던진다
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
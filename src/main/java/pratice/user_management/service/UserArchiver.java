@@ -0,0 +1,122 @@
+package pratice.user_management.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pratice.user_management.repository.UserArchiveRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시된 사용자 보관 / 보관 기록 삭제 (백그라운드, interval-ms 마다)
+ * 삭제 표시 후 after-days 가 지난 사용자는 users_archive 로 옮기고, 보관 후 purge-after-days 가 지난 기록은 지운다.
+ * batch-size 행씩 짧은 트랜잭션으로 나누고 배치 사이에 batch-pause-ms 를 쉬어서, 큰 정리 작업이 긴 트랜잭션이나 복제 지연을 만들지 않게 한다.
+ * 한 번에 max-batches 배치까지만 처리하고 남은 건 다음 실행으로 넘긴다.
+ */
+@Slf4j
+@Component
+public class UserArchiver {
+    private final UserArchiveRepository archive;
+    private final EmailBloomFilter emailFilter;
+    private final long afterDays;
+    private final long purgeAfterDays;
+    private final long intervalMs;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxBatches;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "user-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter archived;
+    private final Counter purged;
+
+    public UserArchiver(UserArchiveRepository archive,
+                        EmailBloomFilter emailFilter,
+                        MeterRegistry meterRegistry,
+                        @Value("${user.archive.after-days:30}") long afterDays,
+                        @Value("${user.archive.purge-after-days:365}") long purgeAfterDays,
+                        @Value("${user.archive.interval-ms:600000}") long intervalMs,
+                        @Value("${user.archive.batch-size:500}") int batchSize,
+                        @Value("${user.archive.batch-pause-ms:200}") long batchPauseMs,
+                        @Value("${user.archive.max-batches:200}") int maxBatches) {
+        this.archive = archive;
+        this.emailFilter = emailFilter;
+        this.afterDays = afterDays;
+        this.purgeAfterDays = purgeAfterDays;
+        this.intervalMs = intervalMs;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatches = maxBatches;
+
+        this.archived = meterRegistry.counter("user.archive.rows", "action", "archived");
+        this.purged = meterRegistry.counter("user.archive.rows", "action", "purged");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (intervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::run, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void run() {
+        try {
+            if (afterDays >= 0) {
+                LocalDateTime before = LocalDateTime.now().minusDays(afterDays);
+                long moved = inBatches(() -> archive.archiveDeletedBefore(before, batchSize));
+                if (moved > 0) {
+                    archived.increment(moved);
+                    // 보관된 사용자의 이메일은 이제 다시 쓸 수 있다
+                    emailFilter.recordRemovals((int) moved);
+                    log.info("user archive: {} deleted users archived", moved);
+                }
+            }
+            if (purgeAfterDays >= 0) {
+                LocalDateTime before = LocalDateTime.now().minusDays(purgeAfterDays);
+                long removed = inBatches(() -> archive.purgeArchivedBefore(before, batchSize));
+                if (removed > 0) {
+                    purged.increment(removed);
+                    log.info("user archive: {} archived users purged", removed);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("user archive run failed", e);
+        }
+    }
+
+    /**
+     * batch 가 batch-size 보다 적게 처리할 때까지 (최대 max-batches 번) 쉬어 가며 반복
+     */
+    private long inBatches(IntSupplier batch) throws InterruptedException {
+        long total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int done = batch.getAsInt();
+            total += done;
+            if (done < batchSize) {
+                break;
+            }
+            Thread.sleep(batchPauseMs);
+        }
+        return total;
+    }
+}
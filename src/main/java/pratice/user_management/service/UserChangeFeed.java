@@ -0,0 +1,344 @@
+package pratice.user_management.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pratice.user_management.domain.dto.UserChangeDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.exception.ServiceBusyException;
+import pratice.user_management.repository.UserOutboxRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 변경 피드 (user_outbox -> SSE, GET /api/users/changes)
+ * relay 는 이 인스턴스의 커밋 알림을 받으면 max-latency-ms 동안 모았다가 outbox 를 batch-size 개씩 한 번에 읽어 구독자들에게 보낸다.
+ * 다른 인스턴스의 쓰기는 poll-ms 마다 한 번 읽어서 잡는다. 이벤트마다 DB 를 읽지 않는다.
+ * 구독자마다 가상 스레드 하나와 제한된 큐를 둔다. 느린 구독자는 relay 를 막지 않고, 큐가 넘치면 outbox 에서 다시 읽어 따라잡는다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class UserChangeFeed {
+    private static final int MAX_SKIPPED = 10_000;     // 다시 확인할 빈 seq 최대 수
+    private static final int RECHECK_CHUNK = 1000;
+
+    private final UserOutboxRepository outbox;
+    private final int batchSize;
+    private final long maxLatencyMs;
+    private final long gapTimeoutMs;
+    private final long retentionHours;
+    private final long sseTimeoutMs;
+    private final long heartbeatMs;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService relay = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "user-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile long relayedSeq = -1;  // 여기까지 구독자에게 넘김 (시작 전 -1)
+    // gap-timeout-ms 가 지나 건너뛴 빈 seq -> 건너뛴 시각 (relay 스레드에서만)
+    private final Map<Long, LocalDateTime> skippedSeqs = new LinkedHashMap<>();
+
+    public UserChangeFeed(UserOutboxRepository outbox,
+                          MeterRegistry meterRegistry,
+                          @Value("${user.outbox.batch-size:500}") int batchSize,
+                          @Value("${user.outbox.max-latency-ms:100}") long maxLatencyMs,
+                          @Value("${user.outbox.poll-ms:1000}") long pollMs,
+                          @Value("${user.outbox.gap-timeout-ms:5000}") long gapTimeoutMs,
+                          @Value("${user.outbox.retention-hours:168}") long retentionHours,
+                          @Value("${user.outbox.sse-timeout-ms:1800000}") long sseTimeoutMs,
+                          @Value("${user.outbox.heartbeat-ms:15000}") long heartbeatMs,
+                          @Value("${user.outbox.max-subscribers:1000}") int maxSubscribers,
+                          @Value("${user.outbox.subscriber-queue:10000}") int queueCapacity) {
+        this.outbox = outbox;
+        this.batchSize = batchSize;
+        this.maxLatencyMs = maxLatencyMs;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionHours = retentionHours;
+        this.sseTimeoutMs = sseTimeoutMs;
+        this.heartbeatMs = heartbeatMs;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        if (pollMs > 0) {
+            relay.scheduleWithFixedDelay(this::drain, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        }
+        Gauge.builder("user.outbox.subscribers", subscribers, Set::size).register(meterRegistry);
+        Gauge.builder("user.outbox.relayed_seq", this, feed -> feed.relayedSeq).register(meterRegistry);
+    }
+
+    /**
+     * 시작 시점의 끝부터 relay (그 전 기록은 구독자가 since 로 요청할 때 outbox 에서 직접 읽음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        relay.execute(() -> relayedSeq = outbox.findMaxSeq());
+    }
+
+    /**
+     * 이 인스턴스의 커밋 알림 (max-latency-ms 안의 커밋들은 한 번에 읽는다)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        scheduleDrain();
+    }
+
+    /**
+     * 변경 피드 구독
+     *
+     * @param since 이 seq 다음부터 (null 이면 지금부터)
+     */
+    public SseEmitter subscribe(Long since) {
+        if (since != null) {
+            if (since < 0) {
+                throw new IllegalArgumentException("since 는 0 이상이어야 합니다.");
+            }
+            long minSeq = outbox.findMinSeq();
+            if (minSeq > 0 && since + 1 < minSeq) {
+                throw new IllegalArgumentException("since 가 보관 기간보다 오래되었습니다. 목록을 다시 읽은 뒤 최신 seq 부터 구독하세요.");
+            }
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceBusyException("변경 피드 구독자가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, since != null ? since : Math.max(relayedSeq, 0));
+        // 먼저 등록해야 따라잡는 동안 relay 가 보내는 변경을 놓치지 않는다 (중복은 seq 로 거름)
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        Thread.ofVirtual().name("user-changes-subscriber").start(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 보관 기간이 지난 outbox 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${user.outbox.cleanup-ms:3600000}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        int deleted;
+        long total = 0;
+        do {
+            deleted = outbox.deleteOlderThan(before, 10_000);
+            total += deleted;
+        } while (deleted == 10_000);
+        if (total > 0) {
+            log.info("user outbox cleanup: {} rows", total);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relay.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * 새 기록을 batch-size 개씩 읽어 구독자에게 넘김 (relay 스레드에서만 실행)
+     * AUTO_INCREMENT 는 커밋 순서와 다를 수 있으므로, 비어 있는 seq 를 만나면 gap-timeout-ms 동안은 그 앞에서 멈추고 기다린다.
+     * 그래도 비어 있으면 뒤의 변경을 먼저 보내되 빈 seq 는 잊지 않고 drain 때마다 다시 읽어, 늦게 커밋되었으면 그때 보낸다.
+     */
+    void drain() {
+        drainScheduled.set(false);
+        if (relayedSeq < 0) {
+            return;
+        }
+        try {
+            recheckSkipped();
+            while (true) {
+                List<UserChangeDTO> batch = outbox.findAfter(relayedSeq, Long.MAX_VALUE, batchSize);
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime gapDeadline = now.minus(Duration.ofMillis(gapTimeoutMs));
+                long next = relayedSeq;
+                boolean gap = false;
+                for (UserChangeDTO change : batch) {
+                    if (change.getSeq() != next + 1) {
+                        if (change.getAt().isAfter(gapDeadline)) {
+                            gap = true;
+                            break;
+                        }
+                        skip(next + 1, change.getSeq() - 1, now);
+                    }
+                    subscribers.forEach(subscriber -> subscriber.offer(change));
+                    next = change.getSeq();
+                }
+                relayedSeq = next;
+                if (gap) {
+                    scheduleDrain();    // 빈 seq 가 채워졌는지 잠시 후 다시 확인
+                    return;
+                }
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("user outbox relay failed", e);
+        }
+    }
+
+    /**
+     * 건너뛴 빈 seq 중 그사이 커밋된 기록을 보냄 (relay 스레드에서만 실행)
+     * 보관 기간(retention-hours)이 지나도록 비어 있으면 롤백된 것으로 보고 잊는다 (그보다 오래 열린 트랜잭션은 없고, 기록도 cleanup 대상).
+     */
+    private void recheckSkipped() {
+        if (skippedSeqs.isEmpty()) {
+            return;
+        }
+        List<Long> seqs = new ArrayList<>(skippedSeqs.keySet());
+        for (int i = 0; i < seqs.size(); i += RECHECK_CHUNK) {
+            for (UserChangeDTO change : outbox.findBySeqs(seqs.subList(i, Math.min(i + RECHECK_CHUNK, seqs.size())))) {
+                skippedSeqs.remove(change.getSeq());
+                subscribers.forEach(subscriber -> subscriber.offer(change));
+            }
+        }
+        LocalDateTime expired = LocalDateTime.now().minusHours(retentionHours);
+        skippedSeqs.values().removeIf(skippedAt -> skippedAt.isBefore(expired));
+    }
+
+    private void skip(long from, long to, LocalDateTime now) {
+        for (long seq = from; seq <= to; seq++) {
+            if (skippedSeqs.size() >= MAX_SKIPPED) {
+                log.warn("user outbox relay: too many missing seqs, not rechecking {}..{}", seq, to);
+                return;
+            }
+            skippedSeqs.putIfAbsent(seq, now);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            relay.schedule(this::drain, maxLatencyMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 구독자 하나 (전용 가상 스레드에서 outbox 따라잡기 -> 큐의 실시간 변경 전송)
+     */
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final BlockingQueue<UserChangeDTO> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final NavigableSet<Long> missing = new TreeSet<>();  // lastSent 아래에서 아직 못 보낸 seq (늦게 커밋되면 보냄)
+        private volatile boolean closed;
+        private long lastSent;
+
+        private Subscriber(SseEmitter emitter, long since) {
+            this.emitter = emitter;
+            this.lastSent = since;
+        }
+
+        void offer(UserChangeDTO change) {
+            if (!queue.offer(change)) {
+                overflowed.set(true);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                catchUp();
+                while (!closed) {
+                    if (overflowed.compareAndSet(true, false)) {
+                        queue.clear();
+                        catchUp();
+                        continue;
+                    }
+                    UserChangeDTO change = queue.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                    if (change == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        send(change);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자 (다시 연결할 때 Last-Event-ID 로 이어 받음)
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.warn("user change feed subscriber failed", e);
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * relay 가 이미 지나간 구간 (lastSent, relayedSeq] 을 outbox 에서 직접 읽어 보냄
+         */
+        private void catchUp() throws IOException {
+            while (!closed) {
+                long upTo = relayedSeq;
+                List<UserChangeDTO> batch = outbox.findAfter(lastSent, upTo, batchSize);
+                for (UserChangeDTO change : batch) {
+                    send(change);
+                }
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * seq 로 중복을 거름 (lastSent 보다 큰 seq, 또는 건너뛰었다가 늦게 커밋된 seq 만 보냄)
+         */
+        private void send(UserChangeDTO change) throws IOException {
+            long seq = change.getSeq();
+            if (seq <= lastSent && !missing.remove(seq)) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(seq))
+                    .name(change.getType().toLowerCase(Locale.ROOT))
+                    .data(change));
+            if (seq > lastSent) {
+                for (long skipped = Math.max(lastSent + 1, seq - MAX_SKIPPED); skipped < seq; skipped++) {
+                    missing.add(skipped);
+                }
+                while (missing.size() > MAX_SKIPPED) {
+                    missing.pollFirst();
+                }
+                lastSent = seq;
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package pratice.user_management.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pratice.user_management.config.ReadWriteRoutingDataSource;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 전문 검색 인덱스 (Lucene, 로컬 디스크에 메모리 맵으로 저장)
+ * username / email / phone(숫자만) 을 2~20 글자 n-gram 으로 색인하므로 이름 일부, 이메일 조각, 전화번호 일부로 찾을 수 있다.
+ * 검색어의 모든 단어가 (어느 필드든) 맞아야 하고 순서는 상관없다. 결과는 BM25 점수순.
+ * 쓰기는 IndexWriter 버퍼에 바로 반영하고, refresh-ms 마다 검색에 보이게(NRT), commit-ms 마다 디스크에 커밋한다.
+ */
+@Slf4j
+@Component
+public class UserFullTextIndex {
+    public static final int MAX_LIMIT = 100;
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 20;
+    private static final int PAGE_SIZE = 1000;
+    private static final String[] FIELDS = {"username", "email", "phone"};
+    private static final float[] BOOSTS = {3f, 2f, 1f};
+    private static final int ID_LOCK_STRIPES = 256;
+
+    private final UserRepository repository;
+    private final int reindexThreads;
+    private final MMapDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Analyzer queryAnalyzer = analyzer(false);
+
+    // 재색인 때 이 값으로 문서를 표시하고, 끝나면 이전 값의 문서(그 사이 지워진 사용자)를 지운다
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+    private final Set<Long> touchedDuringReindex = ConcurrentHashMap.newKeySet();
+    // 같은 id 의 이벤트 반영과 재색인 쓰기를 순서대로 (가상 스레드를 고정하지 않도록 synchronized 대신 Lock)
+    private final Lock[] idLocks = new Lock[ID_LOCK_STRIPES];
+
+    public UserFullTextIndex(UserRepository repository,
+                             @Value("${user.fulltext.index-path:./data/user-index}") String indexPath,
+                             @Value("${user.fulltext.reindex-threads:4}") int reindexThreads) {
+        this.repository = repository;
+        this.reindexThreads = reindexThreads;
+        for (int i = 0; i < ID_LOCK_STRIPES; i++) {
+            idLocks[i] = new ReentrantLock();
+        }
+        try {
+            this.directory = new MMapDirectory(Path.of(indexPath));
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer(true))
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("전문 검색 인덱스를 열 수 없습니다: " + indexPath, e);
+        }
+    }
+
+    /**
+     * 시작 후 백그라운드에서 전체 재색인
+     * 디스크의 인덱스는 커밋 전에 내려가서 빠진 변경이 있거나 다른 인스턴스/이전 DB 로 만들어졌을 수 있으므로, 비어 있지 않아도 그대로 믿지 않는다.
+     * 재색인이 끝날 때까지는 기존 인덱스로 검색하고, 끝나면 DB 에 없는 사용자의 문서는 지워진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reindexAsync();
+    }
+
+    /**
+     * 전문 검색 (점수순 최대 limit 개)
+     */
+    public List<UserSearchHitDTO> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            for (int i = 0; i < FIELDS.length; i++) {
+                any.add(new BoostQuery(new TermQuery(new Term(FIELDS[i], token)), BOOSTS[i]), BooleanClause.Occur.SHOULD);
+            }
+            all.add(any.build(), BooleanClause.Occur.MUST);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields stored = searcher.storedFields();
+                List<UserSearchHitDTO> hits = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(all.build(), limit).scoreDocs) {
+                    Document doc = stored.document(scoreDoc.doc);
+                    hits.add(new UserSearchHitDTO(doc.getField("id").numericValue().longValue(),
+                            doc.get("email"), doc.get("username"), doc.get("phoneRaw")));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Lock lock = lockFor(event.getId());
+        lock.lock();
+        try {
+            if (reindexing.get()) {
+                touchedDuringReindex.add(event.getId());
+            }
+            if (event.getType() == UserChangedEvent.Type.DELETED) {
+                writer.deleteDocuments(idTerm(event.getId()));
+            } else {
+                UserSearchHitDTO user = new UserSearchHitDTO(event.getId(), event.getEmail(), event.getUsername(), event.getPhone());
+                writer.updateDocument(idTerm(event.getId()), toDocument(user, generation.get()));
+            }
+        } catch (IOException e) {
+            log.warn("full-text index update failed for user {}", event.getId(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼의 변경을 검색에 반영 (near-real-time)
+     */
+    @Scheduled(fixedDelayString = "${user.fulltext.refresh-ms:1000}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 모아 둔 변경을 디스크에 한 번에 커밋
+     */
+    @Scheduled(fixedDelayString = "${user.fulltext.commit-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    /**
+     * 전체 재색인 시작 (이미 진행 중이면 false)
+     */
+    public boolean reindexAsync() {
+        if (!reindexing.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::reindex, "user-fulltext-reindex");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();     // 남은 변경 커밋 후 닫힘
+        directory.close();
+    }
+
+    /**
+     * id 범위를 reindex-threads 개 구간으로 나눠 구간마다 키셋 페이지로 읽으면서 병렬로 색인
+     * 복제 지연된 옛 값이 들어가지 않도록 primary 에서 읽는다.
+     */
+    private void reindex() {
+        long gen = System.currentTimeMillis();
+        generation.set(gen);
+        ExecutorService pool = Executors.newFixedThreadPool(reindexThreads);
+        try {
+            long maxId;
+            try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+                maxId = repository.findMaxId();
+            }
+            long span = maxId / reindexThreads + 1;
+            List<Future<Long>> parts = new ArrayList<>();
+            for (int i = 0; i < reindexThreads; i++) {
+                long after = i * span;
+                long to = Math.min(maxId, (i + 1) * span);
+                parts.add(pool.submit(() -> indexRange(after, to, gen)));
+            }
+            long count = 0;
+            for (Future<Long> part : parts) {
+                count += part.get();
+            }
+
+            // 이번 재색인에서 보지 못한 문서 = 그 사이 삭제된 사용자
+            writer.deleteDocuments(LongPoint.newRangeQuery("gen", Long.MIN_VALUE, gen - 1));
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("user full-text index rebuilt: {} users", count);
+        } catch (Exception e) {
+            log.warn("user full-text reindex failed", e);
+        } finally {
+            pool.shutdownNow();
+            touchedDuringReindex.clear();
+            reindexing.set(false);
+        }
+    }
+
+    private long indexRange(long after, long to, long gen) throws IOException {
+        long cursor = after;
+        long count = 0;
+        while (cursor < to) {
+            List<UserSearchHitDTO> page;
+            try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+                page = repository.findSearchHitsInRange(cursor, to, Limit.of(PAGE_SIZE));
+            }
+            if (page.isEmpty()) {
+                break;
+            }
+            for (UserSearchHitDTO user : page) {
+                // 읽는 동안 이벤트로 반영된 사용자는 그쪽이 더 최신이므로 건너뛴다 (확인과 쓰기 사이에 이벤트가 끼지 않도록 id 잠금 안에서)
+                Lock lock = lockFor(user.getId());
+                lock.lock();
+                try {
+                    if (!touchedDuringReindex.contains(user.getId())) {
+                        writer.updateDocument(idTerm(user.getId()), toDocument(user, gen));
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            count += page.size();
+            cursor = page.get(page.size() - 1).getId();
+        }
+        return count;
+    }
+
+    private Lock lockFor(long id) {
+        return idLocks[Long.hashCode(id) & (ID_LOCK_STRIPES - 1)];
+    }
+
+    private static Term idTerm(long id) {
+        return new Term("idKey", Long.toString(id));
+    }
+
+    private static Document toDocument(UserSearchHitDTO user, long gen) {
+        Document doc = new Document();
+        doc.add(new StringField("idKey", Long.toString(user.getId()), Field.Store.NO));
+        doc.add(new StoredField("id", user.getId()));
+        doc.add(new LongPoint("gen", gen));
+        doc.add(new TextField("username", nullToEmpty(user.getUsername()), Field.Store.YES));
+        doc.add(new TextField("email", nullToEmpty(user.getEmail()), Field.Store.YES));
+        doc.add(new TextField("phone", nullToEmpty(user.getPhone()).replaceAll("\\D", ""), Field.Store.NO));
+        if (user.getPhone() != null) {
+            doc.add(new StoredField("phoneRaw", user.getPhone()));
+        }
+        return doc;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        try (TokenStream stream = queryAnalyzer.tokenStream("q", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    /**
+     * 글자/숫자 단위로 자르고 소문자로 (색인 때만 n-gram 추가, 원본 토큰도 유지)
+     */
+    private static Analyzer analyzer(boolean ngrams) {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+                TokenStream stream = new LowerCaseFilter(tokenizer);
+                if (ngrams) {
+                    stream = new NGramTokenFilter(stream, MIN_GRAM, MAX_GRAM, true);
+                }
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+        };
+    }
+}
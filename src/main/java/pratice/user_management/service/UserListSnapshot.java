@@ -0,0 +1,218 @@
+package pratice.user_management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pratice.user_management.config.ReadWriteRoutingDataSource;
+import pratice.user_management.domain.dto.UserPageBytesDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.event.UserChangedEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록(GET /api/users) 앞쪽 max-pages 페이지를 JSON(+gzip) 바이트로 미리 만들어 두는 스냅샷
+ * 쓰기 사이에는 같은 응답이 반복되므로, limit 이 page-size 인 요청은 조회/변환/직렬화 없이 바이트를 그대로 내려준다.
+ * 쓰기 이벤트가 오면 버전을 올리고 백그라운드에서 바뀐 id 가 속한 페이지부터 다시 만든다.
+ * 페이지 경계가 그대로인 뒤쪽 페이지는 이전 것을 재사용한다.
+ * 다 만든 페이지 맵을 한 번에 바꿔 끼우므로 읽는 쪽은 만드는 중인 스냅샷을 볼 수 없고, 버전이 뒤처져 있으면 바로 DB 조회로 넘어간다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "user.snapshot.enabled", havingValue = "true")
+public class UserListSnapshot {
+    private final UserService service;
+    private final ObjectWriter writer;
+    private final int pageSize;
+    private final int maxPages;
+    private final boolean gzip;
+
+    // 다 만든 스냅샷 (페이지 맵은 바꾸지 않음), 키는 페이지의 after(직전 페이지 마지막 id, 첫 페이지는 0)
+    private record Snapshot(long version, NavigableMap<Long, UserPageBytesDTO> pages) {
+    }
+
+    private volatile Snapshot current = new Snapshot(-1, Collections.emptyNavigableMap());
+    private final AtomicLong writeVersion = new AtomicLong();
+    private final Queue<Long> changedIds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "user-list-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer rebuildTimer;
+
+    public UserListSnapshot(UserService service,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.snapshot.page-size:20}") int pageSize,
+                            @Value("${user.snapshot.max-pages:500}") int maxPages,
+                            @Value("${user.snapshot.gzip:true}") boolean gzip) {
+        UserPaging.validateLimit(pageSize, UserService.MAX_PAGE_SIZE);
+        if (maxPages < 1) {
+            throw new IllegalArgumentException("user.snapshot.max-pages 는 1 이상이어야 합니다.");
+        }
+        this.service = service;
+        this.writer = objectMapper.writerFor(UserPageDTO.class);
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.gzip = gzip;
+
+        this.hits = meterRegistry.counter("user.snapshot.requests", "result", "hit");
+        this.misses = meterRegistry.counter("user.snapshot.requests", "result", "miss");
+        this.rebuildTimer = meterRegistry.timer("user.snapshot.rebuild");
+        Gauge.builder("user.snapshot.pages", this, snapshot -> snapshot.current.pages().size()).register(meterRegistry);
+    }
+
+    /**
+     * 시작 후 백그라운드에서 전체 스냅샷 생성 (그 전까지는 모두 DB 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        markChanged(0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        markChanged(event.getId());
+    }
+
+    /**
+     * 스냅샷에 있는 페이지 (limit 이 page-size 와 다르거나, 없는 커서이거나, 반영 안 된 쓰기가 있으면 empty)
+     */
+    public Optional<UserPageBytesDTO> find(String after, int limit) {
+        Snapshot snapshot = current;
+        UserPageBytesDTO page = null;
+        if (limit == pageSize && snapshot.version() == writeVersion.get()) {
+            page = snapshot.pages().get(UserPaging.decodeCursor(after));
+        }
+        (page != null ? hits : misses).increment();
+        return Optional.ofNullable(page);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void markChanged(long id) {
+        // id 를 먼저 넣고 버전을 올려야 rebuild 가 읽은 버전에 해당하는 id 를 빠뜨리지 않는다
+        changedIds.add(id);
+        writeVersion.incrementAndGet();
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * 쌓인 변경 id 들을 한 번에 반영 (rebuilder 스레드 하나에서만 실행)
+     */
+    void rebuild() {
+        rebuildScheduled.set(false);
+        long version = writeVersion.get();
+        List<Long> ids = new ArrayList<>();
+        for (Long id; (id = changedIds.poll()) != null; ) {
+            ids.add(id);
+        }
+
+        Snapshot previous = current;
+        if (ids.isEmpty()) {
+            // 앞선 rebuild 가 이미 가져가 반영한 id 들 -> 페이지는 그대로 두고 버전만 맞춘다
+            current = new Snapshot(version, previous.pages());
+            return;
+        }
+        // replica 는 방금 반영된 쓰기를 아직 못 봤을 수 있고, 옛 페이지가 다음 쓰기 때까지 남으므로 primary 에서 읽는다
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+            NavigableMap<Long, UserPageBytesDTO> pages = rebuildTimer.recordCallable(() -> rebuildPages(previous.pages(), ids));
+            current = new Snapshot(version, Collections.unmodifiableNavigableMap(pages));
+        } catch (Exception e) {
+            // 이전 스냅샷은 버전이 뒤처진 채 남으므로 다음 쓰기 때까지 목록은 DB 조회로 처리된다
+            log.warn("user list snapshot rebuild failed", e);
+            changedIds.addAll(ids);
+        }
+    }
+
+    private NavigableMap<Long, UserPageBytesDTO> rebuildPages(NavigableMap<Long, UserPageBytesDTO> previous, List<Long> ids) {
+        // 바뀐 id 가 속한 페이지의 한 페이지 앞부터 (페이지 ETag / nextCursor 가 다음 페이지 첫 행까지 보고 정해지므로)
+        long start = Long.MAX_VALUE;
+        long maxChanged = 0;
+        for (long id : ids) {
+            Long containing = previous.lowerKey(id);
+            Long before = containing == null ? null : previous.lowerKey(containing);
+            start = Math.min(start, before != null ? before : 0L);
+            maxChanged = Math.max(maxChanged, id);
+        }
+
+        NavigableMap<Long, UserPageBytesDTO> pages = new TreeMap<>(previous.headMap(start, false));
+        long after = start;
+        while (pages.size() < maxPages) {
+            UserPageBytesDTO page = encode(service.getAllUsers(after == 0 ? null : UserPaging.encodeCursor(after), pageSize));
+            pages.put(after, page);
+            if (page.getNextCursor() == null) {
+                break;
+            }
+            after = UserPaging.decodeCursor(page.getNextCursor());
+
+            // 경계가 예전 페이지와 같고 그 뒤로 바뀐 id 가 없으면 나머지는 예전 페이지 그대로
+            if (after >= maxChanged && previous.containsKey(after)) {
+                for (Map.Entry<Long, UserPageBytesDTO> entry : previous.tailMap(after, true).entrySet()) {
+                    if (pages.size() >= maxPages) {
+                        break;
+                    }
+                    pages.put(entry.getKey(), entry.getValue());
+                }
+                break;
+            }
+        }
+        return pages;
+    }
+
+    private UserPageBytesDTO encode(UserPageDTO page) {
+        try {
+            byte[] json = writer.writeValueAsBytes(page);
+            return new UserPageBytesDTO(page.getNextCursor(), page.getTag(), json, gzip ? gzip(json) : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package pratice.user_management.service;
+
+import pratice.user_management.domain.dto.ResourceTagDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 목록 커서 / 페이지 태그 계산 (MVC, reactive 서비스가 같은 응답을 내도록 공용)
+ */
+final class UserPaging {
+
+    private UserPaging() {
+    }
+
+    static void validateLimit(int limit, int max) {
+        if (limit < 1 || limit > max) {
+            throw new IllegalArgumentException("limit은 1 ~ " + max + " 사이여야 합니다.");
+        }
+    }
+
+    /**
+     * 페이지 태그 계산 (다음 페이지 확인용 1건까지 포함한 행들의 id/버전 해시, 가장 늦은 수정 시각)
+     * 행이 추가/삭제/수정되면 ETag 가 바뀐다.
+     */
+    static <T> ResourceTagDTO pageTag(List<T> rows, ToLongFunction<T> id, ToLongFunction<T> version,
+                                      Function<T, LocalDateTime> updatedAt) {
+        long hash = 0xCBF29CE484222325L;
+        LocalDateTime lastModified = null;
+        for (T row : rows) {
+            hash = (hash ^ id.applyAsLong(row)) * 0x100000001B3L;
+            hash = (hash ^ version.applyAsLong(row)) * 0x100000001B3L;
+            LocalDateTime time = updatedAt.apply(row);
+            if (time != null && (lastModified == null || time.isAfter(lastModified))) {
+                lastModified = time;
+            }
+        }
+        return new ResourceTagDTO("\"p" + rows.size() + "-" + Long.toHexString(hash) + "\"",
+                ResourceTagDTO.toEpochMillis(lastModified));
+    }
+
+    /**
+     * 커서 인코딩 (마지막 id -> 불투명 문자열)
+     */
+    static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 (없으면 처음부터)
+     */
+    static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
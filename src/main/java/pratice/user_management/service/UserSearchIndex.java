@@ -0,0 +1,163 @@
+package pratice.user_management.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * username / email 접두사 검색용 인메모리 인덱스
+ * "소문자 term + \0 + id" 를 키로 정렬해 두고 접두사 범위만 읽으므로 조회는 O(log n + limit) 이다.
+ * term 은 email, username 전체, username 의 각 단어.
+ * 메모리: 사용자당 약 450B (term 2~3개 x 스킵리스트 노드+키 ~100B, id 맵 항목 ~80B, hit 객체+phone ~70B)
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+    public static final int MAX_LIMIT = 100;
+    private static final char SEPARATOR = '\u0000';
+
+    private final UserRepository repository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final ConcurrentSkipListMap<String, UserSearchHitDTO> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, UserSearchHitDTO> byId = new ConcurrentHashMap<>();   // 수정/삭제 시 이전 term 을 찾기 위해
+    private final Set<Long> removedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+
+    public UserSearchIndex(UserRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 시작 후 백그라운드에서 users 를 스트리밍으로 읽어 색인 (그동안의 검색은 일부 결과만 나올 수 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread thread = new Thread(this::build, "user-search-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 접두사 검색 (대소문자 무시, 같은 사용자는 한 번만)
+     */
+    public List<UserSearchHitDTO> search(String query, int limit) {
+        String prefix = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserSearchHitDTO> results = new LinkedHashMap<>();
+        for (UserSearchHitDTO hit : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            results.putIfAbsent(hit.getId(), hit);
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            remove(event.getId());
+        } else {
+            put(new UserSearchHitDTO(event.getId(), event.getEmail(), event.getUsername(), event.getPhone()));
+        }
+    }
+
+    private void put(UserSearchHitDTO hit) {
+        byId.compute(hit.getId(), (id, old) -> {
+            if (old != null) {
+                termsOf(old).forEach(terms::remove);
+            }
+            termsOf(hit).forEach(term -> terms.put(term, hit));
+            return hit;
+        });
+    }
+
+    /**
+     * 삭제 표시도 build 의 확인/추가와 같은 id 잠금(compute) 안에서 해야 사이에 끼어든 삭제를 놓치지 않는다
+     */
+    private void remove(long id) {
+        byId.compute(id, (key, old) -> {
+            if (building) {
+                removedDuringBuild.add(key);
+            }
+            if (old != null) {
+                termsOf(old).forEach(terms::remove);
+            }
+            return null;
+        });
+    }
+
+    private void build() {
+        building = true;
+        try {
+            AtomicLong count = new AtomicLong();
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<UserSearchHitDTO> hits = repository.streamAllSearchHits()) {
+                    hits.forEach(hit -> {
+                        // 읽는 동안 들어온 이벤트(수정/삭제)가 더 최신이므로 덮어쓰지 않는다 (삭제 확인도 id 잠금 안에서)
+                        byId.computeIfAbsent(hit.getId(), id -> {
+                            if (removedDuringBuild.contains(id)) {
+                                return null;
+                            }
+                            termsOf(hit).forEach(term -> terms.put(term, hit));
+                            return hit;
+                        });
+                        count.incrementAndGet();
+                    });
+                }
+            });
+            log.info("user search index built: {} users, {} terms", count.get(), terms.size());
+        } catch (RuntimeException e) {
+            log.warn("user search index build failed", e);
+        } finally {
+            building = false;
+            removedDuringBuild.clear();
+        }
+    }
+
+    private static Set<String> termsOf(UserSearchHitDTO hit) {
+        Set<String> result = new LinkedHashSet<>();
+        String suffix = SEPARATOR + Long.toString(hit.getId());
+        if (hit.getEmail() != null) {
+            result.add(hit.getEmail().toLowerCase(Locale.ROOT) + suffix);
+        }
+        if (hit.getUsername() != null) {
+            String username = hit.getUsername().toLowerCase(Locale.ROOT).trim();
+            result.add(username + suffix);
+            for (String word : username.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    result.add(word + suffix);
+                }
+            }
+        }
+        return result;
+    }
+}
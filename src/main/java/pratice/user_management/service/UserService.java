@@ -1,94 +1,586 @@
 package pratice.user_management.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pratice.user_management.config.ReadWriteRoutingDataSource;
 import pratice.user_management.domain.entity.User;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.domain.dto.UserBulkItemDTO;
+import pratice.user_management.domain.dto.UserBulkResultDTO;
 import pratice.user_management.domain.dto.UserCreateDTO;
 import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.domain.dto.UserRowDTO;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.domain.dto.UserStatsDTO;
+import pratice.user_management.domain.dto.UserVersionDTO;
+import pratice.user_management.event.UserChangedEvent;
 import pratice.user_management.exception.UserNotFoundException;
+import pratice.user_management.exception.VersionConflictException;
+import pratice.user_management.repository.UserJdbcRepository;
+import pratice.user_management.repository.UserOutboxRepository;
 import pratice.user_management.repository.UserRepository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final String USER_CACHE = "users";
+    private static final int WRITE_GENERATION_STRIPES = 4096;
+
     private final UserRepository repository;
+    private final UserJdbcRepository jdbcRepository;
+    private final EmailBloomFilter emailFilter;
+    private final UserSearchIndex searchIndex;
+    private final UserFullTextIndex fullTextIndex;
+    private final UserStatistics statistics;
+    private final ApplicationEventPublisher events;
+    private final UserOutboxRepository outbox;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final CacheManager cacheManager;
+    private final Optional<UserUpdateCoalescer> updateCoalescer;
+
+    private final SingleFlight<Long, LoadedUser> userLoads = new SingleFlight<>();
+    // id 별 쓰기 세대 (id 를 칸으로 나눠 센다, 같은 칸의 다른 id 가 써도 올라가지만 캐시를 한 번 덜 채울 뿐)
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_GENERATION_STRIPES);
+
+    @Value("${user.bulk.batch-size:500}")
+    private int bulkBatchSize;
+
+    @Value("${user.bulk.delete-chunk-size:500}")
+    private int deleteChunkSize;
 
     /**
-     * 모든 사용자 조회 (Entity -> DTO 변화 후 반환)
+     * 사용자 목록 조회 (커서 페이징, DTO 프로젝션으로 바로 조회)
+     * after 커서 다음 id부터 limit 개만 읽으므로 페이지 깊이와 상관없이 비용이 같다.
+     * 읽기 전용 트랜잭션이라 replica 가 설정되어 있으면 replica 에서 읽는다 (캐시에 넣는 getUser / getUserTag 만 primary).
      */
-    public List<UserDTO> getAllUsers() {
-        return repository.findAll().stream()
-                .map(user -> new UserDTO(user.getEmail(), user.getUsername(), user.getPhone(), user.getCreatedAt()))
+    @Transactional(readOnly = true)
+    public UserPageDTO getAllUsers(String after, int limit) {
+        UserPaging.validateLimit(limit, MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다 (count 쿼리 대신)
+        List<UserRowDTO> rows = repository.findRowsAfter(UserPaging.decodeCursor(after), Limit.of(limit + 1));
+        ResourceTagDTO tag = UserPaging.pageTag(rows, UserRowDTO::getId, UserRowDTO::getVersion, UserRowDTO::getUpdatedAt);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+
+        List<UserDTO> page = rows.stream()
+                .map(UserRowDTO::toUserDTO)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? UserPaging.encodeCursor(rows.get(rows.size() - 1).getId()) : null;
+        return new UserPageDTO(page, nextCursor, tag);
+    }
+
+    /**
+     * 목록 페이지의 ETag / Last-Modified 만 계산 (조건부 GET 용, 본문 컬럼은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public ResourceTagDTO getPageTag(String after, int limit) {
+        UserPaging.validateLimit(limit, MAX_PAGE_SIZE);
+        List<UserVersionDTO> versions = repository.findVersionsAfter(UserPaging.decodeCursor(after), Limit.of(limit + 1));
+        return UserPaging.pageTag(versions, UserVersionDTO::getId, UserVersionDTO::getVersion, UserVersionDTO::getUpdatedAt);
     }
 
     /**
-     * 특정 사용자 조회(id) (Entity -> DTO 변환 후 반환)
+     * 전체 사용자를 한 건씩 전달 (내보내기용)
+     * 전방향 커서로 DTO 프로젝션만 읽어 영속성 컨텍스트에 아무것도 쌓이지 않으므로 테이블 크기와 상관없이 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void forEachUser(Consumer<UserDTO> action) {
+        try (Stream<UserDTO> users = repository.streamAllDtos()) {
+            users.forEach(action);
+        }
+    }
+
+    /**
+     * 특정 사용자 조회(id) (DTO 프로젝션으로 바로 조회)
+     * 결과는 id 기준으로 캐시되고 수정/삭제 시 무효화된다.
+     * 캐시에 없는 같은 id 를 동시에 조회하면 DB 조회는 한 번만 하고 결과(또는 404)를 함께 받는다.
+     * 트랜잭션은 먼저 온 요청의 조회(repository 의 읽기 전용 트랜잭션) 동안만 열리므로, 결과를 기다리는 요청은 커넥션을 잡지 않는다.
+     * 캐시에 넣을 값은 primary 에서 읽는다. replica 에서 읽으면 수정으로 무효화된 직후 복제 지연된 옛 값이 다시 캐시되어 만료될 때까지 남는다.
+     * 쓰기 뒤에 온 요청은 쓰기 전에 시작된 조회에 합류하지 않고, 조회 도중 쓰기가 있었으면 (쓰기 세대가 바뀜) 그 결과는 캐시하지 않는다.
      */
     public UserDTO getUser(Long id) {
-        User user = repository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        return new UserDTO(user.getEmail(), user.getUsername(), user.getPhone(), user.getCreatedAt());
+        Cache cache = cacheManager.getCache(USER_CACHE);
+        UserDTO cached = cache != null ? cache.get(id, UserDTO.class) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = writeGeneration(id);
+        LoadedUser loaded = userLoads.load(id, () -> loadUser(id));
+        while (loaded.generation() < generation) {
+            // 이 요청이 본 쓰기보다 먼저 시작된 조회 (쓰기 때 잊혔으므로 다시 부르면 새로 조회)
+            loaded = userLoads.load(id, () -> loadUser(id));
+        }
+        if (loaded.user() == null) {
+            throw new UserNotFoundException("User not found");
+        }
+        if (cache != null && loaded.generation() == writeGeneration(id)) {
+            cache.put(id, loaded.user());
+            // put 과 겹친 쓰기가 있었으면 되돌린다 (쓰기 쪽의 무효화는 이미 지나갔을 수 있음)
+            if (loaded.generation() != writeGeneration(id)) {
+                cache.evict(id);
+            }
+        }
+        return loaded.user();
+    }
+
+    /**
+     * 특정 사용자의 ETag / Last-Modified 만 조회 (조건부 GET 용)
+     * 캐시에 있으면 DB 조회 없이, 없으면 버전/수정 시각 컬럼만 읽는다.
+     * 캐시된 본문(getUser)과 같은 기준이어야 하므로 primary 에서 읽는다 (옛 버전이면 바뀐 사용자에 304 를 줄 수 있음).
+     */
+    public ResourceTagDTO getUserTag(Long id) {
+        Cache cache = cacheManager.getCache(USER_CACHE);
+        UserDTO cached = cache != null ? cache.get(id, UserDTO.class) : null;
+        if (cached != null) {
+            return ResourceTagDTO.ofUser(cached.getVersion(), cached.getUpdatedAt());
+        }
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+            return repository.findVersionById(id)
+                    .map(version -> ResourceTagDTO.ofUser(version.getVersion(), version.getUpdatedAt()))
+                    .orElseThrow(() -> new UserNotFoundException("User not found"));
+        }
     }
 
     /**
-     * 회원가입 (DTO -> Entity 변환 후 저장)
+     * 회원가입 (DTO -> Entity 변환 후 저장, outbox 기록과 같은 트랜잭션)
      */
     public void createUser(UserCreateDTO userCreateDTO) {
-        validateDuplicateUserEmail(userCreateDTO);
+        validateEmail(userCreateDTO.getEmail());
+        validateDuplicateUserEmail(userCreateDTO.getEmail());
+        validatePassword(userCreateDTO.getPassword());
 
         User user = User.builder()
                 .email(userCreateDTO.getEmail())
-                .password(userCreateDTO.getPassword()) // 비밀번호는 나중에 암호화!
+                .password(passwordHasher.hash(userCreateDTO.getPassword()))
                 .username(userCreateDTO.getUsername())
                 .phone(userCreateDTO.getPhone())
                 .build();
 
-        repository.save(user);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User saved = repository.save(user);
+                publish(UserChangedEvent.created(saved.getId(), saved.getEmail(), saved.getUsername(), saved.getPhone()));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Bloom filter 는 인스턴스마다 따로라 다른 인스턴스가 넣은 이메일은 모를 수 있다 -> 유니크 인덱스에 걸린 경우
+            if (repository.existsByEmail(user.getEmail())) {
+                emailFilter.put(user.getEmail());
+                throw new IllegalArgumentException("이미 존재하는 이메일 입니다.");
+            }
+            throw e;
+        }
+        emailFilter.put(user.getEmail());
+    }
+
+    /**
+     * 대량 회원가입 (batch-size 단위로 나눠 청크마다 중복 검사 1번 + JDBC 배치 insert 1번)
+     */
+    public UserBulkResultDTO createUsers(Iterator<UserCreateDTO> users) {
+        List<UserBulkItemDTO> results = new ArrayList<>();
+        List<UserCreateDTO> chunk = new ArrayList<>(bulkBatchSize);
+        while (users.hasNext()) {
+            chunk.add(users.next());
+            if (chunk.size() == bulkBatchSize || !users.hasNext()) {
+                results.addAll(createChunk(chunk, results.size()));
+                chunk.clear();
+            }
+        }
+        return new UserBulkResultDTO(results);
     }
 
     /**
-     * 특정 사용자 삭제
+     * 청크 하나 등록 (offset: 요청 전체에서 청크 첫 항목의 순번)
+     * 잘못된 항목은 예외 대신 INVALID 로 표시하고 건너뛴다 (앞 청크만 저장된 채 요청이 실패하지 않도록).
+     * 해시 풀이 가득 차서 503 이 나면 앞 청크들은 이미 저장된 상태이고, 다시 보내면 그것들은 중복으로 표시된다.
      */
+    private List<UserBulkItemDTO> createChunk(List<UserCreateDTO> chunk, int offset) {
+        // Bloom filter 에 없는 이메일은 확실히 새 이메일이므로 나머지만 DB에서 확인
+        List<String> candidates = chunk.stream()
+                .filter(UserService::isValidNewUser)
+                .map(UserCreateDTO::getEmail)
+                .filter(emailFilter::mightContain)
+                .toList();
+        Set<String> taken = new HashSet<>(candidates.isEmpty() ? List.of() : repository.findExistingEmails(candidates));
+
+        List<UserBulkItemDTO> results = new ArrayList<>(chunk.size());
+        List<UserCreateDTO> toInsert = new ArrayList<>(chunk.size());
+        List<Integer> insertIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            UserCreateDTO user = chunk.get(i);
+            String status;
+            if (!isValidNewUser(user)) {
+                status = UserBulkItemDTO.INVALID;
+            } else if (!taken.add(user.getEmail())) {
+                // DB에 이미 있거나 같은 청크 안에서 앞서 나온 이메일이면 중복
+                status = UserBulkItemDTO.DUPLICATE;
+            } else {
+                status = UserBulkItemDTO.CREATED;
+                toInsert.add(user);
+                insertIndexes.add(i);
+            }
+            results.add(new UserBulkItemDTO(offset + i, user == null ? null : user.getEmail(), status));
+        }
+        if (toInsert.isEmpty()) {
+            return results;
+        }
+
+        // 새로 넣을 것만 해시 풀에서 병렬로 해시
+        List<String> hashes = passwordHasher.hashAll(toInsert.stream().map(UserCreateDTO::getPassword).toList());
+        for (int j = 0; j < toInsert.size(); j++) {
+            toInsert.set(j, toInsert.get(j).withPassword(hashes.get(j)));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertAndPublish(toInsert));
+            toInsert.forEach(user -> emailFilter.put(user.getEmail()));
+        } catch (DuplicateKeyException e) {
+            // 검사 직후 다른 요청이 같은 이메일을 먼저 넣은 경우 -> 이 청크만 한 건씩 다시 시도
+            for (int j = 0; j < toInsert.size(); j++) {
+                int i = insertIndexes.get(j);
+                UserBulkItemDTO item = results.get(i);
+                UserCreateDTO user = toInsert.get(j);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertAndPublish(List.of(user)));
+                    emailFilter.put(user.getEmail());
+                } catch (DuplicateKeyException duplicate) {
+                    results.set(i, new UserBulkItemDTO(item.getIndex(), item.getEmail(), UserBulkItemDTO.DUPLICATE));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * JDBC 배치 insert + outbox 기록 (호출하는 쪽의 트랜잭션 안에서)
+     * JDBC 배치는 생성된 id 를 돌려주지 않으므로 이벤트용으로 한 번에 조회한다.
+     */
+    private void insertAndPublish(List<UserCreateDTO> users) {
+        jdbcRepository.insertAll(users);
+        List<String> emails = users.stream().map(UserCreateDTO::getEmail).toList();
+        publishAll(repository.findSearchHitsByEmailIn(emails).stream()
+                .map(hit -> UserChangedEvent.created(hit.getId(), hit.getEmail(), hit.getUsername(), hit.getPhone()))
+                .toList());
+    }
+
+    /**
+     * 특정 사용자 삭제 (SELECT 없이 삭제 표시 UPDATE 한 번)
+     * 행은 보관 기간 동안 남아 있어 restoreUser 로 되살릴 수 있고, 그동안 이메일도 다른 사용자가 쓸 수 없다.
+     */
+    @CacheEvict(cacheNames = USER_CACHE, key = "#id")
     public void deleteUser(Long id) {
-        User user = repository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        repository.delete(user);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (repository.softDeleteById(id, LocalDateTime.now()) == 0) {
+                    throw new UserNotFoundException("User not found");
+                }
+                publish(UserChangedEvent.deleted(id));
+            });
+        } finally {
+            invalidateLoads(id);
+        }
     }
 
     /**
-     * 특정 사용자 정보 수정(Entity -> Entity 변경 후 저장)
+     * 삭제 표시된 사용자 복구 (보관(archive)되기 전까지만 가능)
      */
-    public UserDTO updateUser(Long id, UserCreateDTO userCreateDTO) {
-        User existingUser = repository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+    @CacheEvict(cacheNames = USER_CACHE, key = "#id")
+    public UserDTO restoreUser(Long id) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (jdbcRepository.restore(id) == 0) {
+                    throw new UserNotFoundException("Deleted user not found");
+                }
+                UserDTO restored = repository.findDtoById(id)
+                        .orElseThrow(() -> new UserNotFoundException("User not found"));
+                publish(UserChangedEvent.restored(id, restored.getEmail(), restored.getUsername(), restored.getPhone(),
+                        restored.getCreatedAt()));
+                return restored;
+            });
+        } finally {
+            invalidateLoads(id);
+        }
+    }
 
-        existingUser.updateProfile(
-                userCreateDTO.getEmail(),
-                userCreateDTO.getUsername(),
-                userCreateDTO.getPhone()
-        );
+    /**
+     * 여러 사용자 삭제 (delete-chunk-size 개씩 나눠 청크마다 짧은 트랜잭션으로 삭제 표시)
+     * 한 트랜잭션으로 처리하면 대량 삭제 동안 행 잠금이 오래 유지되므로 나눠서 처리한다.
+     *
+     * @return 실제로 삭제된 사용자 수 (없는 id 는 무시)
+     */
+    public int deleteUsers(List<Long> ids) {
+        Cache cache = cacheManager.getCache(USER_CACHE);
+        List<Long> distinct = ids.stream().distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < distinct.size(); from += deleteChunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + deleteChunkSize, distinct.size()));
+            // 실제로 있는 id 만 outbox 에 남기도록 먼저 확인
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> existing = repository.findExistingIds(chunk);
+                if (existing.isEmpty()) {
+                    return 0;
+                }
+                publishAll(existing.stream().map(UserChangedEvent::deleted).toList());
+                return repository.softDeleteAllById(existing, LocalDateTime.now());
+            });
+            deleted += count;
+            chunk.forEach(this::invalidateLoads);
+            if (cache != null) {
+                chunk.forEach(cache::evict);
+            }
+        }
+        return deleted;
+    }
 
-        existingUser.updatePassword(userCreateDTO.getPassword());
+    /**
+     * 특정 사용자 정보 수정 (SELECT 없이 바뀐 컬럼만 UPDATE 한 번)
+     * expectedVersion 이 있으면 그 버전일 때만 반영하고, 다른 요청이 먼저 수정했으면 409
+     * 비밀번호는 null 이면 그대로 두고, 주어졌으면 가입과 같은 기준으로 검사한 뒤 트랜잭션(커넥션)을 잡기 전에 해시한다.
+     * 수정 합치기가 켜져 있으면 같은 id 의 짧은 간격 수정들과 합쳐 한 번에 쓴다 (UserUpdateCoalescer).
+     */
+    @CacheEvict(cacheNames = USER_CACHE, key = "#id")
+    public UserDTO updateUser(Long id, Long expectedVersion, UserCreateDTO userCreateDTO) {
+        if (userCreateDTO.getPassword() != null) {
+            validatePassword(userCreateDTO.getPassword());
+        }
+        UserCreateDTO changes = userCreateDTO.getPassword() == null ? userCreateDTO
+                : userCreateDTO.withPassword(passwordHasher.hash(userCreateDTO.getPassword()));
 
-        return new UserDTO(existingUser.getEmail(), existingUser.getUsername(), existingUser.getPhone(), existingUser.getCreatedAt());
+        try {
+            if (updateCoalescer.isPresent()) {
+                return updateCoalescer.get().update(id, expectedVersion, changes,
+                        (version, merged) -> writeUpdate(id, version, merged));
+            }
+            return writeUpdate(id, expectedVersion, changes);
+        } finally {
+            invalidateLoads(id);
+        }
     }
 
+    private UserDTO writeUpdate(Long id, Long expectedVersion, UserCreateDTO changes) {
+        return transactionTemplate.execute(status -> {
+            String email = changes.getEmail();
+            if (email != null && emailFilter.mightContain(email) && repository.existsByEmailAndIdNot(email, id)) {
+                throw new IllegalArgumentException("이미 존재하는 이메일 입니다.");
+            }
+            // 이메일이 바뀌면 옛 이메일은 Bloom filter 에 남으므로 삭제와 같이 센다
+            String previousEmail = email == null ? null : repository.findEmailById(id).orElse(null);
+
+            int updated;
+            try {
+                updated = jdbcRepository.updateChangedFields(id, expectedVersion, changes);
+            } catch (DuplicateKeyException e) {
+                throw new IllegalArgumentException("이미 존재하는 이메일 입니다.");
+            }
+            if (updated == 0) {
+                if (expectedVersion != null && repository.existsById(id)) {
+                    throw new VersionConflictException("User was modified by another request");
+                }
+                throw new UserNotFoundException("User not found");
+            }
+
+            emailFilter.put(email);
+            if (previousEmail != null && !previousEmail.equals(email)) {
+                emailFilter.recordRemovals(1);
+            }
+            UserDTO updatedUser = repository.findDtoById(id)
+                    .orElseThrow(() -> new UserNotFoundException("User not found"));
+            publish(UserChangedEvent.updated(id, updatedUser.getEmail(), updatedUser.getUsername(), updatedUser.getPhone()));
+            return updatedUser;
+        });
+    }
+
+    /**
+     * 비밀번호 확인 (이메일 + 비밀번호)
+     * 맞았는데 저장된 값이 평문이거나 cost 가 지금 설정과 다르면 그 자리에서 다시 해시해 저장한다.
+     */
+    public boolean verifyPassword(String email, String rawPassword) {
+        if (email == null || rawPassword == null) {
+            throw new IllegalArgumentException("이메일과 비밀번호가 필요합니다.");
+        }
+        String stored = repository.findPasswordByEmail(email).orElse(null);
+        if (stored == null) {
+            // 없는 이메일도 해시 한 번만큼 시간을 써서 응답 시간으로 가입 여부가 드러나지 않게 한다
+            passwordHasher.hash(rawPassword);
+            return false;
+        }
+        if (!passwordHasher.matches(rawPassword, stored)) {
+            return false;
+        }
+        if (passwordHasher.needsRehash(stored)) {
+            // 그 사이 비밀번호가 바뀌었으면 0 행 반영 (새 비밀번호 유지)
+            jdbcRepository.updatePasswordHash(email, stored, passwordHasher.hash(rawPassword));
+        }
+        return true;
+    }
+
+    /**
+     * username / email 접두사 검색 (인메모리 인덱스, DB 조회 없음)
+     */
+    public List<UserSearchHitDTO> searchUsers(String query, int limit) {
+        if (limit < 1 || limit > UserSearchIndex.MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + UserSearchIndex.MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return searchIndex.search(query, limit);
+    }
+
+    /**
+     * 전문 검색 (이름 일부, 이메일 조각, 전화번호 숫자 - 순서 무관, 점수순)
+     */
+    public List<UserSearchHitDTO> fullTextSearch(String query, int limit) {
+        if (limit < 1 || limit > UserFullTextIndex.MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + UserFullTextIndex.MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return fullTextIndex.search(query, limit);
+    }
+
+    /**
+     * 전문 검색 인덱스 전체 재색인 시작 (이미 진행 중이면 false)
+     */
+    public boolean reindexFullText() {
+        return fullTextIndex.reindexAsync();
+    }
+
+    /**
+     * 가입 통계 (인메모리 집계, DB 조회 없음)
+     *
+     * @param granularity day / hour
+     * @param from        이 날짜부터 (null 이면 처음부터)
+     * @param to          이 날짜까지 포함 (null 이면 끝까지)
+     * @param top         이메일 도메인 상위 몇 개
+     */
+    public UserStatsDTO getStats(String granularity, LocalDate from, LocalDate to, int top) {
+        if (top < 0 || top > UserStatistics.MAX_TOP) {
+            throw new IllegalArgumentException("top은 0 ~ " + UserStatistics.MAX_TOP + " 사이여야 합니다.");
+        }
+        boolean daily = switch (granularity) {
+            case "day" -> true;
+            case "hour" -> false;
+            default -> throw new IllegalArgumentException("granularity 는 day 또는 hour 여야 합니다.");
+        };
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from 이 to 보다 늦습니다.");
+        }
+        return statistics.getStats(daily, from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(), top);
+    }
+
+    /**
+     * 변경 기록 (호출하는 쪽의 트랜잭션 안에서 outbox 에 쓰고, 인메모리 구독자에게는 커밋 후 전달)
+     */
+    private void publish(UserChangedEvent event) {
+        outbox.append(event);
+        events.publishEvent(event);
+    }
+
+    private void publishAll(List<UserChangedEvent> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        outbox.appendAll(changes);
+        changes.forEach(events::publishEvent);
+    }
+
+    /**
+     * 캐시를 채울 조회 (primary 에서, 시작할 때의 쓰기 세대와 함께)
+     */
+    private LoadedUser loadUser(Long id) {
+        long generation = writeGeneration(id);
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+            return new LoadedUser(generation, repository.findDtoById(id).orElse(null));
+        }
+    }
 
+    /**
+     * 쓰기가 커밋된 뒤, 캐시 무효화 전에 호출 (쓰기 세대를 올리고 진행 중인 조회를 잊음)
+     */
+    private void invalidateLoads(Long id) {
+        writeGenerations.incrementAndGet(generationSlot(id));
+        userLoads.forget(id);
+    }
 
+    private long writeGeneration(Long id) {
+        return writeGenerations.get(generationSlot(id));
+    }
 
+    private static int generationSlot(Long id) {
+        return Long.hashCode(id) & (WRITE_GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * 비밀번호 필수 검사
+     */
+    private void validatePassword(String password) {
+        if (password == null || password.isEmpty()) {
+            throw new IllegalArgumentException("비밀번호가 필요합니다.");
+        }
+    }
+
+    /**
+     * 이메일 필수 검사
+     */
+    private void validateEmail(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("이메일이 필요합니다.");
+        }
+    }
+
+    /**
+     * 대량 등록 항목 검사 (validateEmail / validatePassword 와 같은 기준, 예외 없이)
+     */
+    private static boolean isValidNewUser(UserCreateDTO user) {
+        return user != null
+                && user.getEmail() != null && !user.getEmail().isBlank()
+                && user.getPassword() != null && !user.getPassword().isEmpty();
+    }
+
+    /**
+     * 이메일 중복 검사 (Bloom filter 에 없으면 DB 조회 생략)
+     */
+    private void validateDuplicateUserEmail(String email) {
+        if (!emailFilter.mightContain(email)) {
+            return;
+        }
+        if (repository.existsByEmail(email)) {
+            throw new IllegalArgumentException("이미 존재하는 이메일 입니다.");
+        }
+        emailFilter.recordFalsePositive();
+    }
 
     /**
-     * 이메일 중복 검사
+     * 캐시를 채울 조회 결과 (user 가 null 이면 없는 사용자)
      */
-    private void validateDuplicateUserEmail(UserCreateDTO userCreateDTO) {
-        repository.findByPassword(userCreateDTO.getPassword())
-                .ifPresent(u -> {
-                    throw new IllegalArgumentException("이미 존재하는 비밀번호 입니다.");
-                });
+    private record LoadedUser(long generation, UserDTO user) {
     }
 }
 
@@ -0,0 +1,283 @@
+package pratice.user_management.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pratice.user_management.domain.dto.DomainCountDTO;
+import pratice.user_management.domain.dto.SignupCountDTO;
+import pratice.user_management.domain.dto.UserSignupDTO;
+import pratice.user_management.domain.dto.UserStatsDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 통계 (시간별 가입자 수, 이메일 도메인별 사용자 수) 인메모리 집계
+ * 시작할 때 id 구간을 나눠 병렬로 한 번 스트리밍해서 만들고, 이후에는 UserChangedEvent 로만 갱신하므로 조회에 SQL 이 없다.
+ * 삭제/수정 이벤트에는 이전 값이 없으므로 id 마다 (가입 시각(시간 단위), 도메인) 을 들고 있다가 빼는 데 쓴다.
+ * 메모리: 사용자당 약 90B (id 맵 항목 ~70B + Signup ~24B, 도메인 문자열은 공유), 도메인 수는 보통 수천 개라 정확히 센다.
+ */
+@Slf4j
+@Component
+public class UserStatistics {
+    public static final int MAX_TOP = 100;
+    public static final int MAX_BUCKETS = 10_000;
+    private static final long NO_HOUR = Long.MIN_VALUE;     // created_at 이 없는 예전 행
+
+    private final UserRepository repository;
+    private final TransactionTemplate readOnlyTx;
+    private final int scanThreads;
+
+    private record Signup(long hour, String domain) {
+    }
+
+    // 직전 top-K 계산 결과 (집계가 바뀌지 않았으면 재사용)
+    private record TopDomains(long version, List<DomainCountDTO> domains) {
+    }
+
+    private final ConcurrentHashMap<Long, Signup> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, LongAdder> signupsPerHour = new ConcurrentSkipListMap<>();    // 키: epoch 기준 시간 번호 (서버 시간대)
+    private final ConcurrentHashMap<String, LongAdder> usersPerDomain = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> domainNames = new ConcurrentHashMap<>();    // 같은 도메인 문자열 공유용
+    private final AtomicLong version = new AtomicLong();
+    private volatile TopDomains topDomains = new TopDomains(-1, List.of());
+
+    // 집계 중에 들어온 이벤트 (스캔 결과보다 최신)
+    private final Set<Long> removedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final Map<Long, String> updatedDuringBuild = new ConcurrentHashMap<>();
+    private volatile boolean building = true;
+    private volatile boolean complete;
+
+    public UserStatistics(UserRepository repository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${user.stats.scan-threads:4}") int scanThreads) {
+        this.repository = repository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.scanThreads = scanThreads;
+    }
+
+    /**
+     * 시작 후 백그라운드에서 전체 집계 (그동안의 조회는 complete=false 로 일부만 반영된 값)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread thread = new Thread(this::build, "user-stats-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 통계 조회
+     *
+     * @param daily true 면 하루 단위, false 면 한 시간 단위
+     * @param from  이 시각 이후 가입만 (null 이면 처음부터)
+     * @param to    이 시각 전 가입만 (null 이면 끝까지)
+     * @param top   도메인 상위 몇 개
+     */
+    public UserStatsDTO getStats(boolean daily, LocalDateTime from, LocalDateTime to, int top) {
+        long fromHour = from == null ? NO_HOUR + 1 : hourOf(from);
+        long toHour = to == null ? Long.MAX_VALUE : hourOf(to);
+
+        List<SignupCountDTO> signups = new ArrayList<>();
+        long bucket = NO_HOUR;
+        long count = 0;
+        if (fromHour < toHour) {
+            for (Map.Entry<Long, LongAdder> entry : signupsPerHour.subMap(fromHour, true, toHour, false).entrySet()) {
+                long hourCount = entry.getValue().sum();
+                if (hourCount <= 0) {
+                    continue;
+                }
+                long hourBucket = daily ? Math.floorDiv(entry.getKey(), 24) * 24 : entry.getKey();
+                if (hourBucket != bucket) {
+                    addBucket(signups, bucket, count);
+                    bucket = hourBucket;
+                    count = 0;
+                }
+                count += hourCount;
+            }
+        }
+        addBucket(signups, bucket, count);
+
+        List<DomainCountDTO> domains = topDomains();
+        return new UserStatsDTO(complete, byId.size(), daily ? "day" : "hour", signups,
+                domains.subList(0, Math.min(top, domains.size())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        switch (event.getType()) {
+            // 가입 시각은 insert 시점(now)과 같다
+            case CREATED -> byId.computeIfAbsent(event.getId(), id -> add(new Signup(hourOf(LocalDateTime.now()), domainOf(event.getEmail()))));
+            case RESTORED -> byId.computeIfAbsent(event.getId(), id -> add(new Signup(
+                    event.getCreatedAt() == null ? NO_HOUR : hourOf(event.getCreatedAt()), domainOf(event.getEmail()))));
+            case UPDATED -> byId.compute(event.getId(), (id, old) -> {
+                String domain = domainOf(event.getEmail());
+                if (old == null) {
+                    if (building) {
+                        updatedDuringBuild.put(id, domain);
+                    }
+                    return null;
+                }
+                if (old.domain().equals(domain)) {
+                    return old;
+                }
+                remove(old);
+                return add(new Signup(old.hour(), domain));
+            });
+            case DELETED -> byId.compute(event.getId(), (id, old) -> {
+                if (building) {
+                    removedDuringBuild.add(id);
+                }
+                if (old != null) {
+                    remove(old);
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * id 범위를 scan-threads 개 구간으로 나눠 구간마다 한 번씩 스트리밍하면서 병렬로 집계
+     */
+    void build() {
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(scanThreads);
+        try {
+            long maxId = repository.findMaxId();
+            long span = maxId / scanThreads + 1;
+            List<Future<Long>> parts = new ArrayList<>();
+            for (int i = 0; i < scanThreads; i++) {
+                long after = i * span;
+                long to = Math.min(maxId, (i + 1) * span);
+                parts.add(pool.submit(() -> scanRange(after, to)));
+            }
+            long count = 0;
+            for (Future<Long> part : parts) {
+                count += part.get();
+            }
+            complete = true;
+            log.info("user stats built: {} users, {} domains in {} ms", count, usersPerDomain.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("user stats build failed", e);
+        } finally {
+            pool.shutdownNow();
+            building = false;
+            removedDuringBuild.clear();
+            updatedDuringBuild.clear();
+        }
+    }
+
+    private long scanRange(long after, long to) {
+        if (after >= to) {
+            return 0;
+        }
+        Long count = readOnlyTx.execute(status -> {
+            long scanned = 0;
+            try (Stream<UserSignupDTO> rows = repository.streamSignupsInRange(after, to)) {
+                for (UserSignupDTO row : (Iterable<UserSignupDTO>) rows::iterator) {
+                    // 읽는 동안 이벤트로 반영(또는 삭제)된 사용자는 그쪽이 더 최신이므로 건너뛴다
+                    byId.compute(row.getId(), (id, old) -> {
+                        if (old != null || removedDuringBuild.contains(id)) {
+                            return old;
+                        }
+                        String domain = updatedDuringBuild.getOrDefault(id, domainOf(row.getEmail()));
+                        return add(new Signup(row.getCreatedAt() == null ? NO_HOUR : hourOf(row.getCreatedAt()), domain));
+                    });
+                    scanned++;
+                }
+            }
+            return scanned;
+        });
+        return count == null ? 0 : count;
+    }
+
+    private Signup add(Signup signup) {
+        if (signup.hour() != NO_HOUR) {
+            signupsPerHour.computeIfAbsent(signup.hour(), hour -> new LongAdder()).increment();
+        }
+        usersPerDomain.computeIfAbsent(signup.domain(), domain -> new LongAdder()).increment();
+        version.incrementAndGet();
+        return signup;
+    }
+
+    private void remove(Signup signup) {
+        if (signup.hour() != NO_HOUR) {
+            signupsPerHour.computeIfAbsent(signup.hour(), hour -> new LongAdder()).decrement();
+        }
+        usersPerDomain.computeIfAbsent(signup.domain(), domain -> new LongAdder()).decrement();
+        version.incrementAndGet();
+    }
+
+    /**
+     * 사용자 수가 많은 도메인 MAX_TOP 개 (같으면 도메인 이름순), 집계가 바뀌었을 때만 다시 계산
+     */
+    private List<DomainCountDTO> topDomains() {
+        long current = version.get();
+        TopDomains cached = topDomains;
+        if (cached.version() == current) {
+            return cached.domains();
+        }
+
+        Comparator<DomainCountDTO> order = Comparator.comparingLong(DomainCountDTO::getCount)
+                .thenComparing(DomainCountDTO::getDomain, Comparator.reverseOrder());
+        PriorityQueue<DomainCountDTO> heap = new PriorityQueue<>(MAX_TOP + 1, order);
+        usersPerDomain.forEach((domain, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                heap.add(new DomainCountDTO(domain, count));
+                if (heap.size() > MAX_TOP) {
+                    heap.poll();
+                }
+            }
+        });
+        List<DomainCountDTO> domains = new ArrayList<>(heap);
+        domains.sort(order.reversed());
+        topDomains = new TopDomains(current, List.copyOf(domains));
+        return topDomains.domains();
+    }
+
+    private static void addBucket(List<SignupCountDTO> signups, long hour, long count) {
+        if (hour == NO_HOUR || count == 0) {
+            return;
+        }
+        if (signups.size() >= MAX_BUCKETS) {
+            throw new IllegalArgumentException("구간이 너무 많습니다. 기간을 줄이거나 day 단위로 조회하세요.");
+        }
+        signups.add(new SignupCountDTO(LocalDateTime.ofEpochSecond(hour * 3600, 0, ZoneOffset.UTC), count));
+    }
+
+    // LocalDateTime(서버 시간대 벽시계) -> 시간 번호
+    private static long hourOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    private String domainOf(String email) {
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        String domain = at < 0 ? "(none)" : email.substring(at + 1).toLowerCase(Locale.ROOT);
+        return domainNames.computeIfAbsent(domain, key -> key);
+    }
+}
@@ -0,0 +1,173 @@
+package pratice.user_management.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.exception.ServiceBusyException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * 같은 사용자 수정 합치기 (write-behind, user.update-coalescing.enabled=true 일 때만)
+ * 같은 id 로 window-ms 안에 들어온 수정들을 필드별로 나중 값이 이기도록 합쳐 UPDATE 한 번으로 쓰고,
+ * 기다리던 요청들은 커밋된 같은 결과(또는 같은 예외)를 받는다.
+ * id 마다 앞선 쓰기가 끝난 뒤에 다음 쓰기를 시작하므로 같은 사용자의 수정 순서는 그대로다.
+ * expectedVersion(If-Match) 이 있는 수정은 합치지 않고 순서만 지켜 따로 쓴다 (합치면 버전 검사가 의미 없어짐).
+ * 기다리는 요청이 queue-capacity 개를 넘으면 바로 ServiceBusyException(503) 을 던진다.
+ */
+@Component
+@ConditionalOnProperty(name = "user.update-coalescing.enabled", havingValue = "true")
+public class UserUpdateCoalescer {
+    private static final CompletableFuture<UserDTO> DONE = CompletableFuture.completedFuture(null);
+
+    private final long windowMs;
+    private final Semaphore waiting;
+
+    // id 별 마지막 쓰기 묶음 (아직 열려 있거나 쓰는 중)
+    private final ConcurrentHashMap<Long, Batch> latest = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "user-update-window");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService writers;
+
+    private final Counter requests;
+    private final Counter writes;
+
+    public UserUpdateCoalescer(MeterRegistry meterRegistry,
+                               @Value("${user.update-coalescing.window-ms:5}") long windowMs,
+                               @Value("${user.update-coalescing.writer-threads:4}") int writerThreads,
+                               @Value("${user.update-coalescing.queue-capacity:1000}") int queueCapacity) {
+        this.windowMs = windowMs;
+        this.waiting = new Semaphore(queueCapacity);
+        AtomicInteger sequence = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, task -> {
+            Thread thread = new Thread(task, "user-update-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.requests = meterRegistry.counter("user.update.coalescing", "result", "request");
+        this.writes = meterRegistry.counter("user.update.coalescing", "result", "write");
+        Gauge.builder("user.update.coalescing.pending", latest, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /**
+     * 수정 요청 (합쳐진 쓰기가 커밋될 때까지 기다림)
+     *
+     * @param changes 바뀐 필드만 (null 필드는 그대로), 비밀번호는 이미 해시된 값
+     * @param writer  (expectedVersion, 합친 changes) 로 실제 UPDATE 를 하는 함수 (트랜잭션 포함)
+     */
+    public UserDTO update(long id, Long expectedVersion, UserCreateDTO changes, BiFunction<Long, UserCreateDTO, UserDTO> writer) {
+        if (!waiting.tryAcquire()) {
+            throw new ServiceBusyException("사용자 수정 대기열이 가득 찼습니다.");
+        }
+        try {
+            requests.increment();
+            Batch[] joined = new Batch[1];
+            boolean[] created = new boolean[1];
+            latest.compute(id, (key, last) -> {
+                if (expectedVersion == null && last != null && last.open) {
+                    last.changes = last.changes.overriddenBy(changes);
+                    joined[0] = last;
+                    return last;
+                }
+                joined[0] = new Batch(key, expectedVersion, changes, writer, last == null ? DONE : last.result);
+                created[0] = true;
+                return joined[0];
+            });
+
+            Batch batch = joined[0];
+            if (created[0]) {
+                if (expectedVersion == null && windowMs > 0) {
+                    timer.schedule(() -> close(batch), windowMs, TimeUnit.MILLISECONDS);
+                } else {
+                    close(batch);
+                }
+            }
+            return await(batch.result);
+        } finally {
+            waiting.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        writers.shutdown();
+    }
+
+    /**
+     * 묶음을 닫고 (더 이상 합치지 않음) 같은 id 의 앞선 쓰기가 끝나면 쓴다
+     */
+    private void close(Batch batch) {
+        // open 은 compute 안에서만 읽고 쓴다 (합치는 쪽과 같은 잠금)
+        latest.computeIfPresent(batch.id, (key, last) -> {
+            batch.open = false;
+            return last;
+        });
+        batch.previous.handle((result, error) -> null)
+                .thenRunAsync(() -> write(batch), writers);
+    }
+
+    private void write(Batch batch) {
+        try {
+            batch.result.complete(batch.writer.apply(batch.expectedVersion, batch.changes));
+        } catch (RuntimeException e) {
+            batch.result.completeExceptionally(e);
+        } finally {
+            writes.increment();
+            latest.remove(batch.id, batch);
+        }
+    }
+
+    private static UserDTO await(CompletableFuture<UserDTO> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 한 번에 쓸 수정 묶음
+     */
+    private static final class Batch {
+        private final long id;
+        private final Long expectedVersion;
+        private final BiFunction<Long, UserCreateDTO, UserDTO> writer;
+        private final CompletableFuture<UserDTO> previous;
+        private final CompletableFuture<UserDTO> result = new CompletableFuture<>();
+        private UserCreateDTO changes;
+        private boolean open;
+
+        private Batch(long id, Long expectedVersion, UserCreateDTO changes,
+                      BiFunction<Long, UserCreateDTO, UserDTO> writer, CompletableFuture<UserDTO> previous) {
+            this.id = id;
+            this.expectedVersion = expectedVersion;
+            this.changes = changes;
+            this.writer = writer;
+            this.previous = previous;
+            this.open = expectedVersion == null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package pratice.user_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    // 내장 DB 세 개 (primary 1 + replica 2), 각 DB 는 자기 이름이 든 행 하나를 가진다
+    private final HikariDataSource primary = database("primary");
+    private final HikariDataSource replica1 = database("replica1");
+    private final HikariDataSource replica2 = database("replica2");
+    private ReadWriteRoutingDataSource routing;
+
+    @AfterEach
+    void tearDown() {
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica 를 돌아가며 쓰고, 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary 를 써야 한다.")
+    void route_ShouldSendReadOnlyToReplicasRoundRobin() {
+        // ✅ Given
+        JdbcTemplate jdbc = jdbc(ReadWriteRoutingDataSource.Balance.ROUND_ROBIN);
+        TransactionTemplate readOnly = transactions(jdbc, true);
+        TransactionTemplate write = transactions(jdbc, false);
+
+        // ✅ When
+        List<String> reads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reads.add(readOnly.execute(status -> whoami(jdbc)));
+        }
+
+        // ✅ Then
+        assertThat(reads).containsExactly("replica1", "replica2", "replica1", "replica2");
+        assertThat(write.execute(status -> whoami(jdbc))).isEqualTo("primary");
+        assertThat(whoami(jdbc)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("pinPrimary 안에서는 readOnly 트랜잭션도 primary 를 써야 한다.")
+    void pinPrimary_ShouldRouteReadOnlyToPrimary() {
+        // ✅ Given
+        JdbcTemplate jdbc = jdbc(ReadWriteRoutingDataSource.Balance.ROUND_ROBIN);
+        TransactionTemplate readOnly = transactions(jdbc, true);
+
+        // ✅ When & Then
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinPrimary()) {
+            assertThat(readOnly.execute(status -> whoami(jdbc))).isEqualTo("primary");
+        }
+        assertThat(readOnly.execute(status -> whoami(jdbc))).startsWith("replica");
+    }
+
+    @Test
+    @DisplayName("least-connections 면 커넥션을 덜 쓰고 있는 replica 로 보내야 한다.")
+    void route_ShouldPreferLeastBusyReplica() throws Exception {
+        // ✅ Given (replica1 의 커넥션 하나를 계속 사용 중)
+        JdbcTemplate jdbc = jdbc(ReadWriteRoutingDataSource.Balance.LEAST_CONNECTIONS);
+        TransactionTemplate readOnly = transactions(jdbc, true);
+
+        try (Connection busy = replica1.getConnection()) {
+            // ✅ When
+            List<String> reads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                reads.add(readOnly.execute(status -> whoami(jdbc)));
+            }
+
+            // ✅ Then
+            assertThat(reads).containsOnly("replica2");
+        }
+    }
+
+    private JdbcTemplate jdbc(ReadWriteRoutingDataSource.Balance balance) {
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica1, replica2), balance, new SimpleMeterRegistry());
+        return new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private static TransactionTemplate transactions(JdbcTemplate jdbc, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(jdbc.getDataSource()));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private static String whoami(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbc.update("INSERT INTO whoami (name) VALUES (?)", name);
+        return pool;
+    }
+}
@@ -0,0 +1,73 @@
+package pratice.user_management.config;
+
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserProtobufCodecTest {
+
+    @Test
+    @DisplayName("페이지를 protobuf 로 쓰고 읽으면 같은 값이어야 하고, null 필드는 null 로 남아야 한다.")
+    void writeAndRead_ShouldRoundTripPage() throws Exception {
+        // ✅ Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+        UserPageDTO page = new UserPageDTO(List.of(
+                new UserDTO("a@test.com", "에이", "010-1111-2222", createdAt, 3, null),
+                new UserDTO("b@test.com", "b", null, createdAt, 1, null)), "Mg", null);
+
+        // ✅ When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        UserProtobufCodec.write(page, out);
+        UserPageDTO read = UserProtobufCodec.read(UserPageDTO.class, new ByteArrayInputStream(out.toByteArray()));
+
+        // ✅ Then
+        assertThat(read.getNextCursor()).isEqualTo("Mg");
+        assertThat(read.getUsers()).hasSize(2);
+        assertThat(read.getUsers().get(0).getUsername()).isEqualTo("에이");
+        assertThat(read.getUsers().get(0).getCreatedAt()).isEqualTo(createdAt);
+        assertThat(read.getUsers().get(1).getEmail()).isEqualTo("b@test.com");
+        assertThat(read.getUsers().get(1).getPhone()).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지(nextCursor 없음)와 빈 페이지도 읽을 수 있어야 한다.")
+    void read_ShouldHandleEmptyPage() throws Exception {
+        // ✅ Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        UserProtobufCodec.write(new UserPageDTO(List.of(), null, null), out);
+
+        // ✅ When
+        UserPageDTO read = UserProtobufCodec.read(UserPageDTO.class, new ByteArrayInputStream(out.toByteArray()));
+
+        // ✅ Then
+        assertThat(out.size()).isZero();
+        assertThat(read.getUsers()).isEmpty();
+        assertThat(read.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("알려진 필드의 wire type 이 스키마와 다르면 (email 에 varint) IllegalArgumentException 이어야 한다.")
+    void read_ShouldRejectWireTypeMismatch() throws Exception {
+        // ✅ Given (field 1 = email 은 string 인데 varint 로 씀)
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        output.writeInt64(1, 42);
+        output.writeString(2, "password");
+        output.flush();
+
+        // ✅ When & Then
+        assertThatThrownBy(() -> UserProtobufCodec.read(UserCreateDTO.class, new ByteArrayInputStream(out.toByteArray())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
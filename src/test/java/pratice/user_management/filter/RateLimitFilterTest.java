@@ -0,0 +1,43 @@
+package pratice.user_management.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @Test
+    @DisplayName("client-header 를 설정하지 않으면 헤더를 바꿔 보내도 같은 IP 는 같은 클라이언트여야 한다.")
+    void clientKey_ShouldIgnoreHeaderWhenNotTrusted() {
+        // ✅ Given
+        MockHttpServletRequest first = request("10.0.0.1", "key-1");
+        MockHttpServletRequest second = request("10.0.0.1", "key-2");
+
+        // ✅ When & Then
+        assertThat(RateLimitFilter.clientKey(first, "")).isEqualTo("ip:10.0.0.1");
+        assertThat(RateLimitFilter.clientKey(second, "")).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("client-header 를 설정하면 그 헤더 값으로 구분하고, 헤더가 없으면 IP 로 구분해야 한다.")
+    void clientKey_ShouldUseTrustedHeaderThenFallBackToIp() {
+        // ✅ Given
+        MockHttpServletRequest withKey = request("10.0.0.1", "key-1");
+        MockHttpServletRequest withoutKey = request("10.0.0.2", null);
+
+        // ✅ When & Then
+        assertThat(RateLimitFilter.clientKey(withKey, "X-Api-Key")).isEqualTo("key:key-1");
+        assertThat(RateLimitFilter.clientKey(withoutKey, "X-Api-Key")).isEqualTo("ip:10.0.0.2");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-Api-Key", apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,47 @@
+package pratice.user_management.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = 100;            // 10 req / 1000ns
+    private static final long TOLERANCE = INTERVAL * 2;  // burst 3
+
+    @Test
+    @DisplayName("버스트만큼 허용한 뒤 거절하고, 간격이 지나면 다시 허용해야 한다.")
+    void tryAcquire_ShouldAllowBurstThenRefill() {
+        // ✅ Given
+        TokenBucket bucket = new TokenBucket(1_000);
+
+        // ✅ When & Then (같은 시각에 3개까지 허용, 4번째는 100ns 대기)
+        assertThat(bucket.tryAcquire(1_000, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(1_000, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(1_000, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(1_000, INTERVAL, TOLERANCE)).isEqualTo(100);
+
+        // ✅ 한 간격 뒤에는 한 개만 다시 허용
+        assertThat(bucket.tryAcquire(1_100, INTERVAL, TOLERANCE)).isZero();
+        assertThat(bucket.tryAcquire(1_100, INTERVAL, TOLERANCE)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버스트 이상은 쌓이지 않아야 한다.")
+    void tryAcquire_ShouldNotAccumulateBeyondBurst() {
+        // ✅ Given
+        TokenBucket bucket = new TokenBucket(0);
+
+        // ✅ When (한참 뒤에 몰아서 요청)
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (bucket.tryAcquire(1_000_000, INTERVAL, TOLERANCE) == 0) {
+                allowed++;
+            }
+        }
+
+        // ✅ Then
+        assertThat(allowed).isEqualTo(3);
+    }
+}
@@ -5,8 +5,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import pratice.user_management.domain.dto.UserRowDTO;
 import pratice.user_management.domain.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -144,6 +147,82 @@ class UserRepositoryTest {
         Optional<User> deletedUser = userRepository.findByEmail("test@example.com");
         assertThat(deletedUser).isEmpty(); // 데이터가 삭제되었는지 확인
     }
+
+    /**
+     * 🔹 6. 커서 페이징 테스트 (Read Page)
+     */
+    @Test
+    @DisplayName("커서(id) 다음의 사용자만 id 순서대로 limit 개 조회되어야 한다.")
+    void findRowsAfter_ShouldReturnNextPageInIdOrder() {
+        // ✅ Given (테스트 데이터 저장)
+        for (int i = 1; i <= 5; i++) {
+            userRepository.save(User.builder()
+                    .email("user" + i + "@example.com")
+                    .password("password" + i)
+                    .username("User " + i)
+                    .build());
+        }
+        List<UserRowDTO> firstPage = userRepository.findRowsAfter(0L, Limit.of(2));
+
+        // ✅ When (첫 페이지 마지막 id 이후 조회)
+        List<UserRowDTO> secondPage = userRepository.findRowsAfter(firstPage.get(1).getId(), Limit.of(2));
+
+        // ✅ Then (검증)
+        Assertions.assertThat(firstPage).hasSize(2);
+        Assertions.assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.get(0).getId()).isGreaterThan(firstPage.get(1).getId());
+        assertThat(secondPage.get(0).getEmail()).isEqualTo("user3@example.com");
+    }
+
+    /**
+     * 🔹 7. 이메일 존재 여부 테스트 (Exists)
+     */
+    @Test
+    @DisplayName("등록된 이메일만 존재한다고 확인되어야 한다.")
+    void existsByEmail_ShouldReturnTrue_OnlyForRegisteredEmail() {
+        // ✅ Given (테스트 데이터 저장)
+        userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("securePassword")
+                .username("testuser")
+                .build());
+
+        // ✅ When & Then (검증)
+        assertTrue(userRepository.existsByEmail("test@example.com"));
+        assertFalse(userRepository.existsByEmail("other@example.com"));
+    }
+
+    /**
+     * 🔹 8. 삭제 표시 테스트 (Soft delete)
+     */
+    @Test
+    @DisplayName("삭제 표시된 사용자는 조회에서 빠지지만 이메일은 계속 사용 중이어야 한다.")
+    void softDeleteById_ShouldHideUserButKeepEmailTaken() {
+        // ✅ Given (테스트 데이터 저장)
+        User user1 = userRepository.save(User.builder()
+                .email("user1@example.com")
+                .password("password1")
+                .username("User One")
+                .build());
+        User user2 = userRepository.save(User.builder()
+                .email("user2@example.com")
+                .password("password2")
+                .username("User Two")
+                .build());
+
+        // ✅ When (삭제 표시)
+        int deleted = userRepository.softDeleteById(user1.getId(), LocalDateTime.now());
+
+        // ✅ Then (검증)
+        assertEquals(1, deleted);
+        assertEquals(0, userRepository.softDeleteById(user1.getId(), LocalDateTime.now()));
+        assertThat(userRepository.findById(user1.getId())).isEmpty();
+        assertThat(userRepository.findDtoById(user1.getId())).isEmpty();
+        List<UserRowDTO> rows = userRepository.findRowsAfter(0, Limit.of(10));
+        assertEquals(1, rows.size());
+        assertEquals(user2.getId(), rows.get(0).getId());
+        assertTrue(userRepository.existsByEmail("user1@example.com"));
+    }
 }
 
 /*
@@ -0,0 +1,51 @@
+package pratice.user_management.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+    // 테스트가 빠르도록 cost 4 고정
+    private final PasswordHasher hasher = new PasswordHasher(2, 8, 1, 4, 4);
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시한 비밀번호는 원문과 다르고, 원문으로만 확인되어야 한다.")
+    void hash_ShouldMatchOnlyRawPassword() {
+        // ✅ When (해시)
+        String hash = hasher.hash("password1234");
+        List<String> hashes = hasher.hashAll(List.of("a-password", "b-password", "c-password"));
+
+        // ✅ Then (검증)
+        assertThat(hash).isNotEqualTo("password1234");
+        assertThat(hasher.matches("password1234", hash)).isTrue();
+        assertThat(hasher.matches("wrong", hash)).isFalse();
+        assertThat(hashes).hasSize(3);
+        assertThat(hasher.matches("b-password", hashes.get(1))).isTrue();
+        assertThat(hasher.needsRehash(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 값과 cost 가 다른 해시는 다시 해시 대상이어야 한다.")
+    void needsRehash_ShouldDetectLegacyAndOutdatedCost() {
+        // ✅ Given (예전 평문, 다른 cost 의 해시)
+        String legacy = "password1234";
+        String oldCost = new BCryptPasswordEncoder(5).encode("password1234");
+
+        // ✅ Then (확인은 되지만 다시 해시해야 함)
+        assertThat(hasher.matches("password1234", legacy)).isTrue();
+        assertThat(hasher.needsRehash(legacy)).isTrue();
+        assertThat(hasher.matches("password1234", oldCost)).isTrue();
+        assertThat(hasher.needsRehash(oldCost)).isTrue();
+    }
+}
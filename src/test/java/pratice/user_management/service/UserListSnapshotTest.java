@@ -0,0 +1,139 @@
+package pratice.user_management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.dto.UserPageBytesDTO;
+import pratice.user_management.domain.dto.UserPageDTO;
+import pratice.user_management.event.UserChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserListSnapshotTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ConcurrentSkipListMap<Long, UserDTO> table = new ConcurrentSkipListMap<>();
+    private final AtomicInteger pageQueries = new AtomicInteger();
+    private UserListSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 50; id++) {
+            table.put(id, user(id, "user" + id));
+        }
+        // UserService.getAllUsers 와 같은 규칙으로 table 을 페이징
+        UserService service = mock(UserService.class);
+        when(service.getAllUsers(any(), anyInt())).thenAnswer(invocation -> {
+            pageQueries.incrementAndGet();
+            List<Long> ids = new ArrayList<>(table.tailMap(UserPaging.decodeCursor(invocation.getArgument(0)), false).keySet());
+            int limit = invocation.getArgument(1);
+            List<Long> rows = ids.subList(0, Math.min(limit + 1, ids.size()));
+            boolean hasNext = rows.size() > limit;
+            List<Long> page = hasNext ? rows.subList(0, limit) : rows;
+            return new UserPageDTO(page.stream().map(table::get).toList(),
+                    hasNext ? UserPaging.encodeCursor(page.get(page.size() - 1)) : null,
+                    UserPaging.pageTag(rows, id -> id, id -> table.get(id).getVersion(), id -> null));
+        });
+
+        snapshot = new UserListSnapshot(service, objectMapper, new SimpleMeterRegistry(), PAGE_SIZE, 100, true);
+        snapshot.onReady();
+        awaitPage(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshot.shutdown();
+    }
+
+    @Test
+    @DisplayName("스냅샷 페이지는 같은 페이지를 직렬화한 JSON 과 같아야 하고, 커서를 따라가면 끝까지 읽을 수 있어야 한다.")
+    void find_ShouldServeEncodedPages() throws Exception {
+        // ✅ Given
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+
+        // ✅ When
+        do {
+            UserPageBytesDTO page = awaitPage(cursor);
+            UserPageDTO decoded = objectMapper.readValue(page.getJson(), UserPageDTO.class);
+            decoded.getUsers().forEach(user -> usernames.add(user.getUsername()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // ✅ Then
+        assertThat(usernames).hasSize(50).startsWith("user1").endsWith("user50");
+        assertThat(pageQueries.get()).isEqualTo(5);
+        assertThat(snapshot.find(null, PAGE_SIZE + 1)).isEmpty();     // page-size 가 아닌 요청은 DB 조회
+    }
+
+    @Test
+    @DisplayName("수정 이벤트가 오면 해당 페이지와 그 앞 페이지만 다시 만들어야 한다.")
+    void onUserChanged_ShouldRebuildOnlyAffectedPages() throws Exception {
+        // ✅ Given (id 25 는 세 번째 페이지)
+        String thirdPage = UserPaging.encodeCursor(20);
+        String lastPage = UserPaging.encodeCursor(40);
+        UserPageBytesDTO before = awaitPage(lastPage);
+        pageQueries.set(0);
+
+        // ✅ When
+        table.put(25L, user(25, "changed"));
+        snapshot.onUserChanged(UserChangedEvent.updated(25, "user25@example.com", "changed", null));
+
+        // ✅ Then
+        UserPageDTO rebuilt = objectMapper.readValue(awaitPage(thirdPage).getJson(), UserPageDTO.class);
+        assertThat(rebuilt.getUsers().get(4).getUsername()).isEqualTo("changed");
+        assertThat(pageQueries.get()).isEqualTo(2);
+        assertThat(awaitPage(lastPage)).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("삭제로 페이지 경계가 바뀌면 뒤쪽 페이지도 새 경계로 다시 만들어야 한다.")
+    void onUserChanged_ShouldShiftPagesAfterDelete() throws Exception {
+        // ✅ When (두 번째 페이지의 id 15 삭제)
+        table.remove(15L);
+        snapshot.onUserChanged(UserChangedEvent.deleted(15));
+
+        // ✅ Then (두 번째 페이지가 21 까지 당겨지고, 다음 페이지는 21 뒤부터)
+        UserPageBytesDTO second = awaitPage(UserPaging.encodeCursor(10));
+        assertThat(second.getNextCursor()).isEqualTo(UserPaging.encodeCursor(21));
+        UserPageDTO third = objectMapper.readValue(awaitPage(second.getNextCursor()).getJson(), UserPageDTO.class);
+        assertThat(third.getUsers().get(0).getUsername()).isEqualTo("user22");
+        assertThat(snapshot.find(UserPaging.encodeCursor(20), PAGE_SIZE)).isEmpty();   // 예전 경계는 더 이상 없음
+    }
+
+    /**
+     * 백그라운드 반영을 기다렸다가 페이지 반환
+     */
+    private UserPageBytesDTO awaitPage(String cursor) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        Optional<UserPageBytesDTO> page;
+        while ((page = snapshot.find(cursor, PAGE_SIZE)).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(page).as("snapshot page for cursor %s", cursor).isPresent();
+        return page.get();
+    }
+
+    private static UserDTO user(long id, String username) {
+        return new UserDTO("user" + id + "@example.com", username, null, CREATED_AT, username.equals("user" + id) ? 0 : 1, null);
+    }
+}
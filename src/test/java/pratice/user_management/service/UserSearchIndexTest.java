@@ -0,0 +1,52 @@
+package pratice.user_management.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import pratice.user_management.domain.dto.UserSearchHitDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.repository.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(mock(UserRepository.class), mock(PlatformTransactionManager.class));
+        index.onUserChanged(UserChangedEvent.created(1L, "kim@example.com", "Kim Minsu", null));
+        index.onUserChanged(UserChangedEvent.created(2L, "lee@example.com", "Lee Minji", null));
+    }
+
+    @Test
+    @DisplayName("username, username 의 단어, email 접두사로 대소문자 구분 없이 검색되어야 한다.")
+    void search_ShouldMatchPrefixesIgnoringCase() {
+        assertThat(ids(index.search("KIM", 10))).containsExactly(1L);
+        assertThat(ids(index.search("min", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("lee@ex", 10))).containsExactly(2L);
+        assertThat(index.search("park", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정하면 예전 term 은 지워지고, 삭제하면 검색되지 않아야 한다.")
+    void onUserChanged_ShouldReplaceOrRemoveTerms() {
+        // ✅ When (이름 변경, 삭제)
+        index.onUserChanged(UserChangedEvent.updated(1L, "kim@example.com", "Park Jisoo", null));
+        index.onUserChanged(UserChangedEvent.deleted(2L));
+
+        // ✅ Then (검증)
+        assertThat(ids(index.search("park", 10))).containsExactly(1L);
+        assertThat(index.search("min", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private List<Long> ids(List<UserSearchHitDTO> hits) {
+        return hits.stream().map(UserSearchHitDTO::getId).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package pratice.user_management.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import pratice.user_management.domain.dto.ResourceTagDTO;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * replica 가 복제를 멈춘(지연된) 상태에서 수정 직후 조회가 옛 값을 캐시하지 않는지 확인
+ * replica 는 별도 인메모리 DB 이고, 테스트가 수정 전 행을 복사해 둔 뒤로는 primary 의 변경을 받지 않는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lag-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "user.datasource.replica-urls=" + UserServiceReplicaLagTest.REPLICA_URL,
+        "user.fulltext.index-path=./build/test-index/replica-lag"
+})
+@ActiveProfiles("embedded")
+class UserServiceReplicaLagTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:lag-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;  // 트랜잭션 밖이라 primary
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, email VARCHAR(50) NOT NULL, " +
+                "password VARCHAR(100) NOT NULL, username VARCHAR(30) NOT NULL, phone VARCHAR(20), created_at TIMESTAMP, " +
+                "updated_at TIMESTAMP, version BIGINT NOT NULL, deleted_at TIMESTAMP)");
+        replica.update("DELETE FROM users");
+        cacheManager.getCache(UserService.USER_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("replica 가 지연되어도 수정 직후 getUser 는 새 값을 돌려주고 캐시해야 하며, getUserTag 도 새 버전이어야 한다.")
+    void getUser_ShouldReadPrimaryWhenReplicaLags() {
+        // ✅ Given (primary 에 저장하고 그 행을 replica 에 복사한 뒤 캐시에 올림)
+        service.createUser(new UserCreateDTO("lag@example.com", "password", "Before", "010-1234-5678"));
+        long id = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, "lag@example.com");
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM users WHERE id = ?", id);
+        replica.update("INSERT INTO users (id, email, password, username, phone, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                row.get("id"), row.get("email"), row.get("password"), row.get("username"), row.get("phone"),
+                row.get("created_at"), row.get("updated_at"), row.get("version"));
+        assertThat(service.getUser(id).getUsername()).isEqualTo("Before");
+
+        // ✅ When (수정으로 캐시가 무효화되지만 replica 는 옛 행 그대로)
+        UserDTO updated = service.updateUser(id, null, new UserCreateDTO(null, null, "After", null));
+        UserDTO afterUpdate = service.getUser(id);
+
+        // ✅ Then (조회와 캐시는 primary 의 새 값, readOnly 목록은 아직 replica 의 옛 값)
+        assertThat(afterUpdate.getUsername()).isEqualTo("After");
+        Cache cache = cacheManager.getCache(UserService.USER_CACHE);
+        assertThat(cache.get(id, UserDTO.class).getUsername()).isEqualTo("After");
+
+        cache.evict(id);
+        ResourceTagDTO tag = service.getUserTag(id);
+        assertThat(tag.getETag()).isEqualTo("\"" + updated.getVersion() + "\"");
+
+        assertThat(service.getAllUsers(null, 10).getUsers().get(0).getUsername()).isEqualTo("Before");
+    }
+}
@@ -0,0 +1,240 @@
+package pratice.user_management.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.domain.entity.User;
+import pratice.user_management.exception.UserNotFoundException;
+import pratice.user_management.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 스프링 빈(트랜잭션 프록시 등)으로 UserService.getUser 의 single-flight 를 확인
+ * 먼저 온 조회는 트랜잭션(커넥션)을 잡은 채 release 까지 멈추고, 나머지는 모두 결과를 기다리는 상태가 된 뒤에 풀어 준다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:single-flight;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "user.fulltext.index-path=./build/test-index/single-flight"
+})
+@ActiveProfiles("embedded")
+class UserServiceSingleFlightTest {
+
+    // 커넥션 풀(20)보다 많아야 기다리는 요청이 커넥션을 잡을 때 드러난다
+    private static final int FOLLOWERS = 50;
+
+    @TestConfiguration
+    static class BlockingRepositoryConfig {
+        // 실제 repository 에 위임하고, findDtoById 만 테스트에서 가로챈다
+        @Bean
+        @Primary
+        UserRepository blockingUserRepository(@Qualifier("userRepository") UserRepository userRepository) {
+            return mock(UserRepository.class, withSettings().defaultAnswer(delegatesTo(userRepository)));
+        }
+    }
+
+    @Autowired
+    private UserService service;
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    @Qualifier("userRepository")
+    private UserRepository realRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final ExecutorService pool = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable);
+        threads.add(thread);
+        return thread;
+    });
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicBoolean blocked = new AtomicBoolean();
+    private final CountDownLatch inQuery = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        cacheManager.getCache(UserService.USER_CACHE).clear();
+        // 느린 DB 조회 흉내 (첫 조회만 읽기 전용 트랜잭션 안에서 커넥션을 잡은 채 release 까지 멈추고, 그 전에 읽은 행을 돌려줌)
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        doAnswer(invocation -> {
+            queries.incrementAndGet();
+            if (!blocked.compareAndSet(false, true)) {
+                return realRepository.findDtoById(invocation.getArgument(0));
+            }
+            return readOnly.execute(status -> {
+                Optional<UserDTO> row = realRepository.findDtoById(invocation.getArgument(0));
+                inQuery.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return row;
+            });
+        }).when(repository).findDtoById(anyLong());
+        // 시작할 때 도는 백그라운드 작업(재색인 등)이 커넥션을 다 돌려줄 때까지 기다림
+        awaitUntil(() -> dataSource.getHikariPoolMXBean().getActiveConnections() == 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 id 를 동시에 조회하면 DB 조회는 한 번이고, 기다리는 요청은 커넥션을 잡지 않으며 모두 같은 결과를 받아야 한다.")
+    void getUser_ShouldCoalesceConcurrentLoadsOutsideTransaction() throws Exception {
+        // ✅ Given
+        long id = realRepository.save(User.builder()
+                .email("single-flight@example.com")
+                .password("securePassword")
+                .username("singleflight")
+                .phone("010-1234-5678")
+                .build()).getId();
+
+        // ✅ When (먼저 온 조회가 멈춰 있는 동안 나머지가 모두 기다리는 상태가 됨)
+        List<Future<Object>> results = callConcurrently(id);
+        int activeWhileWaiting = dataSource.getHikariPoolMXBean().getActiveConnections();
+        release.countDown();
+        List<Object> values = collect(results);
+
+        // ✅ Then (쿼리 1번, 커넥션은 먼저 온 조회의 것 하나뿐, 결과는 모두 같은 객체)
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(activeWhileWaiting).isLessThanOrEqualTo(1);
+        assertThat(values).allMatch(value -> value == values.get(0));
+        assertThat(((UserDTO) values.get(0)).getEmail()).isEqualTo("single-flight@example.com");
+    }
+
+    @Test
+    @DisplayName("없는 id 를 동시에 조회하면 DB 조회는 한 번이고, 모두 404 예외를 받아야 한다.")
+    void getUser_ShouldShareNotFoundAcrossConcurrentLoads() throws Exception {
+        // ✅ Given
+        long id = Long.MAX_VALUE;
+
+        // ✅ When
+        List<Future<Object>> results = callConcurrently(id);
+        release.countDown();
+        List<Object> values = collect(results);
+
+        // ✅ Then
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(values).allMatch(UserNotFoundException.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("조회 도중 수정되면, 수정 뒤의 조회는 진행 중인 조회에 합류하지 않고 새 값을 받으며 옛 값은 캐시되지 않아야 한다.")
+    void getUser_ShouldNotJoinOrCacheLoadStartedBeforeUpdate() throws Exception {
+        // ✅ Given (수정 전 행을 읽은 조회가 멈춰 있음)
+        long id = realRepository.save(User.builder()
+                .email("interleave@example.com")
+                .password("securePassword")
+                .username("before")
+                .build()).getId();
+        Future<UserDTO> stale = pool.submit(() -> service.getUser(id));
+        assertThat(inQuery.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // ✅ When (수정이 끝난 뒤 같은 id 를 조회하고, 그다음에 멈춘 조회를 풀어 줌)
+        service.updateUser(id, null, new UserCreateDTO(null, null, "after", null));
+        UserDTO fresh = pool.submit(() -> service.getUser(id)).get(10, TimeUnit.SECONDS);
+        release.countDown();
+        stale.get(10, TimeUnit.SECONDS);
+
+        // ✅ Then (멈춘 조회가 끝나기 전에 새 값을 받았고, 캐시에도 새 값만 남음)
+        assertThat(fresh.getUsername()).isEqualTo("after");
+        assertThat(cacheManager.getCache(UserService.USER_CACHE).get(id, UserDTO.class).getUsername()).isEqualTo("after");
+        assertThat(service.getUser(id).getUsername()).isEqualTo("after");
+    }
+
+    /**
+     * 먼저 한 명이 조회를 시작해 멈추면, FOLLOWERS 명이 같은 id 로 조회해 모두 SingleFlight 에서 기다릴 때까지 돌려주지 않는다
+     */
+    private List<Future<Object>> callConcurrently(long id) throws InterruptedException {
+        List<Future<Object>> results = new ArrayList<>();
+        results.add(pool.submit(() -> call(id)));
+        assertThat(inQuery.await(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(pool.submit(() -> call(id)));
+        }
+        awaitUntil(() -> threads.size() == FOLLOWERS + 1
+                && threads.subList(1, threads.size()).stream().allMatch(UserServiceSingleFlightTest::waitsInSingleFlight));
+        return results;
+    }
+
+    private Object call(long id) {
+        try {
+            return service.getUser(id);
+        } catch (UserNotFoundException e) {
+            return e;
+        }
+    }
+
+    private static List<Object> collect(List<Future<Object>> results) throws Exception {
+        List<Object> values = new ArrayList<>();
+        for (Future<Object> result : results) {
+            values.add(result.get(10, TimeUnit.SECONDS));
+        }
+        return values;
+    }
+
+    private static boolean waitsInSingleFlight(Thread thread) {
+        return thread.getState() == Thread.State.WAITING
+                && Arrays.stream(thread.getStackTrace())
+                .anyMatch(frame -> frame.getClassName().equals(SingleFlight.class.getName()));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 10초 안에 만족하지 못했습니다.").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package pratice.user_management.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import pratice.user_management.domain.dto.DomainCountDTO;
+import pratice.user_management.domain.dto.SignupCountDTO;
+import pratice.user_management.domain.dto.UserSignupDTO;
+import pratice.user_management.domain.dto.UserStatsDTO;
+import pratice.user_management.event.UserChangedEvent;
+import pratice.user_management.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserStatisticsTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    private final List<UserSignupDTO> rows = List.of(
+            new UserSignupDTO(1, "a@gmail.com", DAY.plusHours(9).plusMinutes(5)),
+            new UserSignupDTO(2, "b@Gmail.com", DAY.plusHours(9).plusMinutes(50)),
+            new UserSignupDTO(3, "c@naver.com", DAY.plusHours(13)),
+            new UserSignupDTO(4, "d@daum.net", DAY.plusDays(1).plusHours(2)),
+            new UserSignupDTO(5, "e@gmail.com", null));
+    private UserStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findMaxId()).thenReturn(5L);
+        when(repository.streamSignupsInRange(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            long to = invocation.getArgument(1);
+            return rows.stream().filter(row -> row.getId() > after && row.getId() <= to);
+        });
+        statistics = new UserStatistics(repository, mock(PlatformTransactionManager.class), 2);
+        statistics.build();
+    }
+
+    @Test
+    @DisplayName("전체 집계 후 시간/일 단위 가입자 수와 도메인 순위가 맞아야 한다.")
+    void build_ShouldAggregateSignupsAndDomains() {
+        // ✅ When
+        UserStatsDTO hourly = statistics.getStats(false, null, null, 10);
+        UserStatsDTO daily = statistics.getStats(true, null, null, 2);
+
+        // ✅ Then (created_at 이 없는 5번은 도메인에만 반영)
+        assertThat(hourly.isComplete()).isTrue();
+        assertThat(hourly.getTotalUsers()).isEqualTo(5);
+        assertThat(hourly.getSignups()).extracting(SignupCountDTO::getStart, SignupCountDTO::getCount)
+                .containsExactly(
+                        tuple(DAY.plusHours(9), 2L),
+                        tuple(DAY.plusHours(13), 1L),
+                        tuple(DAY.plusDays(1).plusHours(2), 1L));
+        assertThat(daily.getSignups()).extracting(SignupCountDTO::getCount).containsExactly(3L, 1L);
+        assertThat(daily.getTopDomains()).extracting(DomainCountDTO::getDomain, DomainCountDTO::getCount)
+                .containsExactly(
+                        tuple("gmail.com", 3L),
+                        tuple("daum.net", 1L));
+    }
+
+    @Test
+    @DisplayName("가입/수정/삭제 이벤트가 오면 이전 값을 빼고 새 값을 더해야 한다.")
+    void onUserChanged_ShouldKeepAggregatesCurrent() {
+        // ✅ When
+        statistics.onUserChanged(UserChangedEvent.created(6, "f@naver.com", "f", null));
+        statistics.onUserChanged(UserChangedEvent.updated(1, "a@naver.com", "a", null));   // gmail -> naver
+        statistics.onUserChanged(UserChangedEvent.deleted(3));                              // naver, 13시 가입
+
+        // ✅ Then
+        UserStatsDTO stats = statistics.getStats(true, DAY, DAY.plusDays(1), 10);
+        assertThat(stats.getTotalUsers()).isEqualTo(5);
+        assertThat(stats.getSignups()).extracting(SignupCountDTO::getCount).containsExactly(2L);
+        assertThat(stats.getTopDomains()).extracting(DomainCountDTO::getDomain, DomainCountDTO::getCount)
+                .containsExactly(
+                        tuple("gmail.com", 2L),
+                        tuple("naver.com", 2L),
+                        tuple("daum.net", 1L));
+    }
+}
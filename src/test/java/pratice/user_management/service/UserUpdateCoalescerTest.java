@@ -0,0 +1,149 @@
+package pratice.user_management.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pratice.user_management.domain.dto.UserCreateDTO;
+import pratice.user_management.domain.dto.UserDTO;
+import pratice.user_management.exception.ServiceBusyException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserUpdateCoalescerTest {
+
+    private final ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+    private UserUpdateCoalescer coalescer;
+
+    // DB 의 한 행 흉내 (쓰기 한 번 = UPDATE 한 번)
+    private final AtomicReference<UserCreateDTO> row = new AtomicReference<>(new UserCreateDTO("old@example.com", null, "old", null));
+    private final AtomicInteger writes = new AtomicInteger();
+    private final List<Long> writtenVersions = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 id 로 몰린 수정은 몇 번의 UPDATE 로 합쳐지고, 모든 요청은 자기 수정이 반영된 결과를 받아야 한다.")
+    void update_ShouldCoalesceBurst() throws Exception {
+        // ✅ Given
+        coalescer = new UserUpdateCoalescer(new SimpleMeterRegistry(), 20, 4, 1000);
+        int burst = 200;
+
+        // ✅ When (동시에 200 번 수정)
+        List<Future<UserDTO>> results = new ArrayList<>();
+        for (int i = 0; i < burst; i++) {
+            String username = "user" + i;
+            results.add(clients.submit(() -> coalescer.update(1L, null, new UserCreateDTO(null, null, username, null), writer(5))));
+        }
+        for (Future<UserDTO> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getUsername()).startsWith("user");
+        }
+
+        // ✅ Then (UPDATE 횟수가 요청 수의 1/5 미만)
+        assertThat(writes.get()).isLessThan(burst / 5);
+        assertThat(row.get().getEmail()).isEqualTo("old@example.com");
+    }
+
+    @Test
+    @DisplayName("같은 묶음의 수정들은 필드별로 합쳐져서 두 요청 모두 같은 결과를 받아야 한다.")
+    void update_ShouldMergeFields() throws Exception {
+        // ✅ Given
+        coalescer = new UserUpdateCoalescer(new SimpleMeterRegistry(), 200, 1, 10);
+
+        // ✅ When (이메일 수정 후 이름 수정)
+        Future<UserDTO> first = clients.submit(() -> coalescer.update(1L, null, new UserCreateDTO("new@example.com", null, null, null), writer(0)));
+        Thread.sleep(50);
+        Future<UserDTO> second = clients.submit(() -> coalescer.update(1L, null, new UserCreateDTO(null, null, "new", null), writer(0)));
+
+        // ✅ Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getEmail()).isEqualTo("new@example.com");
+        assertThat(first.get().getUsername()).isEqualTo("new");
+        assertThat(second.get(5, TimeUnit.SECONDS).getEmail()).isEqualTo("new@example.com");
+        assertThat(writes.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("If-Match 수정은 합치지 않고 들어온 순서대로 하나씩 써야 한다.")
+    void update_ShouldKeepVersionedUpdatesSeparateAndOrdered() throws Exception {
+        // ✅ Given
+        coalescer = new UserUpdateCoalescer(new SimpleMeterRegistry(), 200, 4, 10);
+
+        // ✅ When (버전 1, 2 순서로)
+        Future<UserDTO> first = clients.submit(() -> coalescer.update(1L, 1L, new UserCreateDTO(null, null, "v1", null), writer(50)));
+        Thread.sleep(20);
+        Future<UserDTO> second = clients.submit(() -> coalescer.update(1L, 2L, new UserCreateDTO(null, null, "v2", null), writer(0)));
+
+        // ✅ Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("v1");
+        assertThat(second.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("v2");
+        assertThat(writtenVersions).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("기다리는 요청이 queue-capacity 를 넘으면 바로 ServiceBusyException 을 던져야 한다.")
+    void update_ShouldRejectWhenQueueIsFull() throws Exception {
+        // ✅ Given (쓰기가 끝나지 않는 상태로 한 요청이 대기 중)
+        coalescer = new UserUpdateCoalescer(new SimpleMeterRegistry(), 0, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        Future<UserDTO> blocked = clients.submit(() -> coalescer.update(1L, null, new UserCreateDTO(null, null, "a", null), (version, changes) -> {
+            writing.countDown();
+            awaitQuietly(release);
+            return writer(0).apply(version, changes);
+        }));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // ✅ When & Then
+        assertThatThrownBy(() -> coalescer.update(2L, null, new UserCreateDTO(null, null, "b", null), writer(0)))
+                .isInstanceOf(ServiceBusyException.class);
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("a");
+    }
+
+    /**
+     * UPDATE 한 번 흉내 (changes 를 행에 덮어쓰고 millis 만큼 걸림)
+     */
+    private BiFunction<Long, UserCreateDTO, UserDTO> writer(long millis) {
+        return (version, changes) -> {
+            writes.incrementAndGet();
+            writtenVersions.add(version == null ? 0L : version);
+            sleep(millis);
+            UserCreateDTO updated = row.updateAndGet(current -> current.overriddenBy(changes));
+            return new UserDTO(updated.getEmail(), updated.getUsername(), updated.getPhone(), LocalDateTime.now(), writes.get(), LocalDateTime.now());
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}